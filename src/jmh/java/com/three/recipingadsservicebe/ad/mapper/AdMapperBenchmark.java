@@ -0,0 +1,44 @@
+package com.three.recipingadsservicebe.ad.mapper;
+
+import com.three.recipingadsservicebe.ad.dto.AdResponse;
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.service.AdBenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdMapper.toResponse 변환 비용 측정 (서빙 응답 1건 = 포지션당 최대 3건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AdMapperBenchmark {
+
+    private Ad ad;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Ad> ads = AdBenchmarkFixtures.generateAds(1, AdBenchmarkFixtures.SEED);
+        ad = ads.get(0);
+    }
+
+    @Benchmark
+    public AdResponse toResponse() {
+        return AdMapper.toResponse(ad);
+    }
+}
@@ -0,0 +1,184 @@
+package com.three.recipingadsservicebe.ad.service;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
+import com.three.recipingadsservicebe.abtest.repository.AbTestEventJdbcRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository.AbTestRollupDelta;
+import com.three.recipingadsservicebe.abtest.service.AbTestEventBuffer;
+import com.three.recipingadsservicebe.abtest.service.AbTestRollupAggregator;
+import com.three.recipingadsservicebe.abtest.service.AbTestService;
+import com.three.recipingadsservicebe.ad.counter.AdCounterStore;
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import com.three.recipingadsservicebe.ad.enums.AdType;
+import com.three.recipingadsservicebe.ad.enums.BillingType;
+import com.three.recipingadsservicebe.ad.index.AdServingIndex;
+import com.three.recipingadsservicebe.ad.repository.AdRepository;
+import com.three.recipingadsservicebe.ad.sampling.AdSamplingEngine;
+import com.three.recipingadsservicebe.ad.sampling.SamplingMode;
+import com.three.recipingadsservicebe.advertiser.entity.Advertiser;
+import com.three.recipingadsservicebe.targeting.dto.UserProfileDto;
+import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
+import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
+import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+import com.three.recipingadsservicebe.targeting.service.UserProfileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 벤치마크 공용 픽스처
+ * 동일 seed면 항상 같은 광고 집합이 생성되어 실행 간 결과 비교가 가능
+ */
+public final class AdBenchmarkFixtures {
+
+    public static final long SEED = 20240901L;
+
+    private static final AdPosition[] POSITIONS = AdPosition.values();
+    private static final DemographicSegment[] DEMOGRAPHICS = DemographicSegment.values();
+    private static final EngagementLevel[] ENGAGEMENTS = EngagementLevel.values();
+    private static final CookingStylePreference[] COOKING_STYLES = CookingStylePreference.values();
+
+    private AdBenchmarkFixtures() {
+    }
+
+    /**
+     * 광고 생성: 약 93% 송출 가능 (일시정지 5%, 예산소진 1%, 기간만료 1%), 모두 이미 시작된 광고
+     * 타겟팅 차원은 각각 30% 확률로 미지정
+     */
+    public static List<Ad> generateAds(int count, long seed) {
+        Random random = new Random(seed);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        Advertiser advertiser = new Advertiser(1L, "benchmark-advertiser", "bench@reciping.local",
+                now.minusYears(1), null, null, false);
+
+        List<Ad> ads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int roll = random.nextInt(100);
+            long impressions = random.nextInt(100_000);
+            ads.add(Ad.builder()
+                    .id((long) i + 1)
+                    .title("benchmark-ad-" + i)
+                    .adType(AdType.values()[random.nextInt(AdType.values().length)])
+                    .imageUrl("https://cdn.reciping.local/ads/" + i + ".png")
+                    .targetUrl("https://reciping.local/ads/" + i)
+                    .preferredPosition(POSITIONS[random.nextInt(POSITIONS.length)])
+                    .status(roll < 95 ? AdStatus.ACTIVE : AdStatus.PAUSED)
+                    .billingType(BillingType.values()[random.nextInt(BillingType.values().length)])
+                    .budget(1_000_000L)
+                    .spentAmount(roll == 90 ? 1_000_000L : (long) random.nextInt(900_000))
+                    .score(random.nextInt(1000) / 10f)
+                    .impressionCount(impressions)
+                    .clickCount(impressions == 0 ? 0L : (long) random.nextInt((int) impressions / 10 + 1))
+                    .startAt(now.minusDays(1 + random.nextInt(30)))
+                    .endAt(roll == 91 ? now.minusHours(1) : now.plusDays(1 + random.nextInt(30)))
+                    .abTestGroup(random.nextBoolean() ? AbTestGroup.TREATMENT : AbTestGroup.CONTROL)
+                    .scenarioCode(random.nextBoolean() ? "TREATMENT" : "CONTROL")
+                    .targetDemographicSegment(random.nextInt(10) < 3 ? null
+                            : DEMOGRAPHICS[random.nextInt(DEMOGRAPHICS.length)])
+                    .targetEngagementLevel(random.nextInt(10) < 3 ? null
+                            : ENGAGEMENTS[random.nextInt(ENGAGEMENTS.length)])
+                    .targetCookingStyle(random.nextInt(10) < 3 ? null
+                            : COOKING_STYLES[random.nextInt(COOKING_STYLES.length)])
+                    .createdAt(now.minusMinutes(random.nextInt(100_000)))
+                    .isDeleted(false)
+                    .advertiser(advertiser)
+                    .build());
+        }
+        return ads;
+    }
+
+    /**
+     * 인메모리 저장소 스텁: 인덱스 적재/랜덤 Fallback에 쓰이는 조회만 지원
+     */
+    public static AdRepository inMemoryAdRepository(List<Ad> ads) {
+        return (AdRepository) Proxy.newProxyInstance(
+                AdRepository.class.getClassLoader(),
+                new Class<?>[]{AdRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findServableAds", "findAll" -> ads;
+                    case "toString" -> "InMemoryAdRepository(" + ads.size() + ")";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * 추천 서비스와 함께 만든 A/B 이벤트 버퍼 (writer 스레드를 @TearDown에서 stop() 해야 함)
+     */
+    public record RecommendationFixture(AdRecommendationService service, AbTestEventBuffer abTestEventBuffer) {
+
+        public void stop() {
+            abTestEventBuffer.stop();
+        }
+    }
+
+    /**
+     * 외부 I/O 없이 조립한 추천 서비스 (프로필은 캐시 히트 상태로 가정)
+     */
+    public static RecommendationFixture recommendationService(List<Ad> ads, UserProfileDto profile,
+                                                              Executor executor) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdRepository adRepository = inMemoryAdRepository(ads);
+
+        AdServingIndex adServingIndex = new AdServingIndex(adRepository, new AtomicInteger(),
+                new ConcurrentTaskScheduler());
+        adServingIndex.replaceAll(adRepository.findServableAds());
+
+        UserProfileService userProfileService = new UserProfileService(null, null, null, null, meterRegistry) {
+            @Override
+            public UserProfileDto getUserProfile(Long userId) {
+                return profile;
+            }
+        };
+
+        AbTestEventJdbcRepository noOpEventRepository = new AbTestEventJdbcRepository(null) {
+            @Override
+            public int insertAll(List<AbTestEvent> events) {
+                return events.size();
+            }
+        };
+        AbTestEventBuffer abTestEventBuffer = new AbTestEventBuffer(noOpEventRepository, meterRegistry,
+                10_000, 500, 200);
+        abTestEventBuffer.start();
+        AbTestRollupJdbcRepository noOpRollupRepository = new AbTestRollupJdbcRepository(null) {
+            @Override
+            public void applyDeltas(List<AbTestRollupDelta> deltas) {
+            }
+        };
+        AbTestRollupAggregator abTestRollupAggregator = new AbTestRollupAggregator(noOpRollupRepository, meterRegistry);
+        AbTestService abTestService = new AbTestService(null, abTestEventBuffer, abTestRollupAggregator, null);
+
+        AdRecommendationService service = new AdRecommendationService(adRepository, adServingIndex,
+                new AdSamplingEngine(SamplingMode.UNIFORM), userProfileService, abTestService, new AdCounterStore(null, meterRegistry),
+                meterRegistry, executor);
+        Field positionTimeout = ReflectionUtils.findField(AdRecommendationService.class, "positionTimeoutMs");
+        ReflectionUtils.makeAccessible(positionTimeout);
+        ReflectionUtils.setField(positionTimeout, service, 150L);
+        service.registerPositionTimers();
+        return new RecommendationFixture(service, abTestEventBuffer);
+    }
+
+    public static UserProfileDto treatmentProfile(long userId) {
+        return UserProfileDto.builder()
+                .userId(userId)
+                .demographicSegment(DemographicSegment.FEMALE_THIRTIES)
+                .engagementLevel(EngagementLevel.REGULAR_USER)
+                .cookingStylePreference(CookingStylePreference.HEALTH_CONSCIOUS)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.three.recipingadsservicebe.ad.service;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * recommendAdsForUser 전체 경로 측정 (인메모리 저장소 스텁 + 실제 서빙 인덱스)
+ * 프로필 조회는 캐시 히트, 노출 기록은 실제 버퍼/카운터를 거침
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class AdRecommendationBenchmark {
+
+    /**
+     * 짝수 userId는 TREATMENT(타겟팅), 홀수는 CONTROL(랜덤)
+     */
+    @Param({"2", "3"})
+    private long userId;
+
+    @Param({"100", "10000", "100000"})
+    private int adCount;
+
+    private ExecutorService executor;
+    private AdBenchmarkFixtures.RecommendationFixture fixture;
+    private AdRecommendationService adRecommendationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        List<Ad> ads = AdBenchmarkFixtures.generateAds(adCount, AdBenchmarkFixtures.SEED);
+        fixture = AdBenchmarkFixtures.recommendationService(
+                ads, AdBenchmarkFixtures.treatmentProfile(userId), executor);
+        adRecommendationService = fixture.service();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // 트라이얼마다 새로 만든 A/B 이벤트 writer 스레드가 다음 트라이얼까지 남지 않도록 정리
+        fixture.stop();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Map<String, List<Ad>> recommendAdsForUser() {
+        return adRecommendationService.recommendAdsForUser(userId);
+    }
+}
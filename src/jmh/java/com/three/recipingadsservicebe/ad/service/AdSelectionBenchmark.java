@@ -0,0 +1,92 @@
+package com.three.recipingadsservicebe.ad.service;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.index.AdServingIndex;
+import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
+import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
+import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 후보 필터링/정렬 비용 측정 (selectBestAds, 송출 가능 판정, Ad.isTargetingMatched, 비트셋 타겟팅 매처)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class AdSelectionBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int candidateCount;
+
+    private List<Ad> candidates;
+    private OffsetDateTime now;
+    private AdRecommendationService adRecommendationService;
+    private AdServingIndex adServingIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        candidates = AdBenchmarkFixtures.generateAds(candidateCount, AdBenchmarkFixtures.SEED);
+        now = OffsetDateTime.now();
+        // selectBestAds만 호출하므로 협력 객체는 필요 없음
+        adRecommendationService = new AdRecommendationService(null, null, null, null, null, null, null, null);
+        // 비트셋 매처는 재구성 시 만들어지므로 Setup에서 한 번만 적재
+        adServingIndex = new AdServingIndex(null, new AtomicInteger(), new ConcurrentTaskScheduler());
+        adServingIndex.replaceAll(candidates);
+    }
+
+    @Benchmark
+    public List<Ad> selectBestAds() {
+        return adRecommendationService.selectBestAds(candidates, 3);
+    }
+
+    @Benchmark
+    public int filterServable() {
+        int eligible = 0;
+        for (Ad ad : candidates) {
+            if (AdServingIndex.isServableAt(ad, now)) {
+                eligible++;
+            }
+        }
+        return eligible;
+    }
+
+    @Benchmark
+    public int filterTargetingMatched() {
+        int matched = 0;
+        for (Ad ad : candidates) {
+            if (ad.isTargetingMatched(DemographicSegment.FEMALE_THIRTIES,
+                    EngagementLevel.REGULAR_USER, CookingStylePreference.HEALTH_CONSCIOUS)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public AdServingIndex.TargetedMatch bitsetTargetedMatches() {
+        return adServingIndex.findTargetedMatches(AdPosition.MAIN_TOP, "TREATMENT",
+                DemographicSegment.FEMALE_THIRTIES, EngagementLevel.REGULAR_USER,
+                CookingStylePreference.HEALTH_CONSCIOUS, 3);
+    }
+}
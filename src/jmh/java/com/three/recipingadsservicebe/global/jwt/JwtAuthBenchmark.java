@@ -0,0 +1,68 @@
+package com.three.recipingadsservicebe.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용 측정
+ * - perRequestDoubleParse: 기존 방식 (validateToken + getUserInfoFromToken, 매번 파서 생성 + HMAC 검증 2회)
+ * - cachedClaims: 파서 재사용 + 검증 클레임 캐시 (같은 세션의 반복 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtAuthBenchmark {
+
+    private Key key;
+    private String token;
+    private JwtUtil jwtUtil;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new Random(42).nextBytes(keyBytes);
+        String secretKey = Base64.getEncoder().encodeToString(keyBytes);
+        key = Keys.hmacShaKeyFor(keyBytes);
+        token = Jwts.builder()
+                .setSubject("bench@reciping.com")
+                .claim("role", "USER")
+                .claim("userId", 1)
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+        jwtUtil = new JwtUtil(secretKey, 1000, 600, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Claims perRequestDoubleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims cachedClaims() {
+        return jwtUtil.resolveClaims(token);
+    }
+}
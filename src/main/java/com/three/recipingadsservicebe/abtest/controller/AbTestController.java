@@ -0,0 +1,81 @@
+package com.three.recipingadsservicebe.abtest.controller;
+
+import com.three.recipingadsservicebe.abtest.dto.AbTestResultDto;
+import com.three.recipingadsservicebe.abtest.dto.AbTestSignificanceDto;
+import com.three.recipingadsservicebe.abtest.service.AbTestResultTracker;
+import com.three.recipingadsservicebe.abtest.service.AbTestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/abtest")
+@RequiredArgsConstructor
+public class AbTestController {
+
+    private final AbTestResultTracker abTestResultTracker;
+    private final AbTestService abTestService;
+
+    /**
+     * 🎯 A/B 테스트 누적 결과 및 유의성 (메모리 스냅샷, 대시보드 폴링용)
+     * - 스냅샷은 인스턴스별로 ads.abtest.results.refresh-interval-ms 마다 공용 집계 테이블에서 갱신
+     * - p-value 누적 최소값은 집계 테이블의 분 버킷으로 결정되므로 재기동/인스턴스가 달라도 같은 값
+     * - 단, 인스턴스 간 갱신 시점 차이(최대 갱신 주기)만큼 최근 수치는 다를 수 있고,
+     *   확정 구간 이후 늦게 반영된 증분은 해당 인스턴스 재기동 전까지 포함되지 않음
+     */
+    @GetMapping("/results")
+    public ResponseEntity<Map<String, Object>> getResults() {
+        AbTestSignificanceDto result = abTestResultTracker.getSnapshot();
+        if (result == null) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("message", "A/B 테스트 결과를 아직 집계하지 못했습니다.");
+            errorResponse.put("success", false);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("result", result);
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 기간별 시나리오/그룹 결과 (분 단위 집계 테이블 조회)
+     */
+    @GetMapping("/results/period")
+    public ResponseEntity<Map<String, Object>> getResultsByPeriod(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime end) {
+
+        log.info("A/B 테스트 기간 결과 조회 요청 - start: {}, end: {}", start, end);
+
+        try {
+            List<AbTestResultDto> results = abTestService.getResults(start, end);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("results", results);
+            response.put("success", true);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("A/B 테스트 기간 결과 조회 실패 - start: {}, end: {}", start, end, e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("message", "A/B 테스트 결과 조회에 실패했습니다: " + e.getMessage());
+            errorResponse.put("success", false);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+}
@@ -1,5 +1,43 @@
 package com.three.recipingadsservicebe.abtest.dto;
 
+import com.three.recipingadsservicebe.abtest.stats.AbTestSignificanceCalculator;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시나리오/그룹별 A/B 테스트 결과
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AbTestResultDto {
 
+    private String scenarioCode;
+    private AbTestGroup abTestGroup;
+    private long impressions;
+    private long clicks;
+    private double ctr; // clicks / impressions (노출 0이면 0)
+    private double ctrLower; // Wilson 신뢰구간 하한
+    private double ctrUpper; // Wilson 신뢰구간 상한
+
+    public static AbTestResultDto of(String scenarioCode, AbTestGroup abTestGroup,
+                                     Long impressions, Long clicks, double z) {
+        long impressionCount = impressions != null ? impressions : 0L;
+        long clickCount = clicks != null ? clicks : 0L;
+        AbTestSignificanceCalculator.Interval interval =
+                AbTestSignificanceCalculator.wilsonInterval(clickCount, impressionCount, z);
+        return AbTestResultDto.builder()
+                .scenarioCode(scenarioCode)
+                .abTestGroup(abTestGroup)
+                .impressions(impressionCount)
+                .clicks(clickCount)
+                .ctr(AbTestSignificanceCalculator.ctr(clickCount, impressionCount))
+                .ctrLower(interval.lower())
+                .ctrUpper(interval.upper())
+                .build();
+    }
 }
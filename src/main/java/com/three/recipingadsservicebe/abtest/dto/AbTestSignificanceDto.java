@@ -0,0 +1,38 @@
+package com.three.recipingadsservicebe.abtest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * A/B 테스트 누적 결과 및 유의성 (control 대비 treatment)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbTestSignificanceDto {
+
+    private List<AbTestResultDto> scenarios;
+    private AbTestResultDto control;
+    private AbTestResultDto treatment;
+
+    private double ctrDifference; // treatment CTR - control CTR
+    private double ctrDifferenceLower;
+    private double ctrDifferenceUpper;
+
+    private Double lift; // treatment CTR / control CTR - 1 (control CTR 0이면 null)
+    private Double liftLower;
+    private Double liftUpper;
+
+    private double sequentialPValue; // mSPRT always-valid p-value (확정 분 버킷 경계별 값과 현재 값의 최소)
+    private double alpha;
+    private boolean significant;
+
+    private double confidenceZ;
+    private OffsetDateTime refreshedAt;
+}
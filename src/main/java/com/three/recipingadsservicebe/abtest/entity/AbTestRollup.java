@@ -0,0 +1,34 @@
+package com.three.recipingadsservicebe.abtest.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A/B 테스트 분 단위 집계 (원본 이벤트 대신 결과 조회에 사용)
+ * 적재는 AbTestRollupAggregator → AbTestRollupJdbcRepository 증분 upsert로만 수행
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "ab_test_rollups")
+public class AbTestRollup {
+
+    @EmbeddedId
+    private AbTestRollupId id;
+
+    @Column(name = "impressions", nullable = false)
+    private long impressions;
+
+    @Column(name = "clicks", nullable = false)
+    private long clicks;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
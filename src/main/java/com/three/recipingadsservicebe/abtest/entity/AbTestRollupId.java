@@ -0,0 +1,44 @@
+package com.three.recipingadsservicebe.abtest.entity;
+
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+/**
+ * 집계 키: (분 버킷, 시나리오, 그룹, 광고, 포지션)
+ * adId가 없는 이벤트는 기본 키에 null을 둘 수 없으므로 0으로 집계
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class AbTestRollupId implements Serializable {
+
+    public static final long NO_AD_ID = 0L;
+
+    @Column(name = "bucket_start", nullable = false)
+    private OffsetDateTime bucketStart;
+
+    @Column(name = "scenario_code", nullable = false, length = 50)
+    private String scenarioCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ab_test_group", nullable = false, length = 15)
+    private AbTestGroup abTestGroup;
+
+    @Column(name = "ad_id", nullable = false)
+    private Long adId;
+
+    @Column(name = "position", nullable = false, length = 50)
+    private String position;
+}
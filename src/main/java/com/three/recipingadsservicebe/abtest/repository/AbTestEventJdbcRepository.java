@@ -0,0 +1,62 @@
+package com.three.recipingadsservicebe.abtest.repository;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * A/B 테스트 이벤트 다건 INSERT 전용 저장소
+ * IDENTITY 전략으로 인해 JPA save()는 건별 INSERT가 되므로 multi-row VALUES로 직접 적재
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbTestEventJdbcRepository {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO ab_test_events
+                (user_id, scenario_code, ab_test_group, ad_id, event_type, position, created_at)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 번의 INSERT 문으로 이벤트 묶음 적재
+     */
+    public int insertAll(List<AbTestEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + events.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW_PLACEHOLDER);
+        }
+
+        return jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (AbTestEvent event : events) {
+                ps.setLong(index, event.getUserId());
+                ps.setString(index + 1, event.getScenarioCode());
+                ps.setString(index + 2, event.getAbTestGroup().name());
+                if (event.getAdId() != null) {
+                    ps.setLong(index + 3, event.getAdId());
+                } else {
+                    ps.setNull(index + 3, Types.BIGINT);
+                }
+                ps.setString(index + 4, event.getEventType());
+                ps.setString(index + 5, event.getPosition());
+                ps.setObject(index + 6, event.getCreatedAt());
+                index += COLUMN_COUNT;
+            }
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.three.recipingadsservicebe.abtest.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * A/B 테스트 이벤트 파티션 관리 저장소
+ * - PostgreSQL: ab_test_events 일 단위 RANGE 파티션 생성/조회/삭제 (V3 마이그레이션 이후)
+ * - 그 외(H2 등) 또는 파티셔닝 전 테이블: created_at 기준 배치 DELETE로 대체
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbTestEventPartitionRepository {
+
+    public static final String PARENT_TABLE = "ab_test_events";
+    public static final String PARTITION_PREFIX = "ab_test_events_p";
+    public static final String LEGACY_PARTITION = "ab_test_events_legacy";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * ab_test_events가 선언적 파티션 테이블인지 (PostgreSQL relkind = 'p')
+     */
+    public boolean isPartitioned() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return false;
+        }
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, PARENT_TABLE);
+        return !kinds.isEmpty() && "p".equals(kinds.get(0));
+    }
+
+    public static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    }
+
+    public static LocalDate partitionDay(String partitionName) {
+        return LocalDate.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    }
+
+    /**
+     * 해당 일자([자정, 다음 자정)) 파티션 생성, 이미 있으면 무시
+     */
+    public void createDailyPartition(LocalDate day, ZoneId zone) {
+        OffsetDateTime from = day.atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime to = day.plusDays(1).atStartOfDay(zone).toOffsetDateTime();
+        // DDL은 바인딩 파라미터를 받지 않으므로 내부에서 만든 이름/ISO 시각만 사용
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day)
+                + " PARTITION OF " + PARENT_TABLE
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    /**
+     * 일 단위 파티션 이름 목록 (legacy 제외)
+     */
+    public List<String> findDailyPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname::text
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                  AND c.relname ~ '^ab_test_events_p[0-9]{8}$'
+                ORDER BY c.relname
+                """, String.class, PARENT_TABLE);
+    }
+
+    /**
+     * 기존 데이터 파티션이 남아 있고 cutoff 이후 행이 없는지 (created_at 인덱스로 한 건만 확인)
+     */
+    public boolean isLegacyPartitionExpired(OffsetDateTime cutoff) {
+        List<String> exists = jdbcTemplate.queryForList(
+                "SELECT relname::text FROM pg_class WHERE oid = to_regclass(?)", String.class, LEGACY_PARTITION);
+        if (exists.isEmpty()) {
+            return false;
+        }
+        List<Integer> recent = jdbcTemplate.queryForList(
+                "SELECT 1 FROM " + LEGACY_PARTITION + " WHERE created_at >= ? LIMIT 1", Integer.class, cutoff);
+        return recent.isEmpty();
+    }
+
+    /**
+     * 파티션 분리 후 삭제 (DROP은 행 단위 DELETE와 달리 VACUUM 부담 없음)
+     * - DETACH ... CONCURRENTLY: 부모 테이블에 ACCESS EXCLUSIVE 대신 SHARE UPDATE EXCLUSIVE만 잡아 적재/조회를 막지 않음
+     *   (트랜잭션 블록 안에서 실행할 수 없으므로 @Transactional 밖에서 호출, DEFAULT 파티션이 있으면 사용 불가)
+     * - 이전 실행이 중단돼 분리 대기(inhdetachpending) 상태로 남은 파티션은 FINALIZE로 마무리
+     */
+    public void dropPartition(String partitionName) {
+        List<Boolean> detachPending = jdbcTemplate.queryForList(
+                "SELECT inhdetachpending FROM pg_inherits WHERE inhrelid = to_regclass(?)", Boolean.class, partitionName);
+        if (!detachPending.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName
+                    + (Boolean.TRUE.equals(detachPending.get(0)) ? " FINALIZE" : " CONCURRENTLY"));
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName);
+    }
+
+    /**
+     * 파티션 미지원 DB용: cutoff 이전 행을 batchSize 단위로 삭제, 삭제 건수 반환
+     */
+    public int deleteOlderThan(OffsetDateTime cutoff, int batchSize) {
+        return jdbcTemplate.update("""
+                DELETE FROM ab_test_events
+                WHERE id IN (
+                    SELECT id FROM ab_test_events
+                    WHERE created_at < ?
+                    ORDER BY created_at
+                    FETCH FIRST ? ROWS ONLY
+                )
+                """, cutoff, batchSize);
+    }
+}
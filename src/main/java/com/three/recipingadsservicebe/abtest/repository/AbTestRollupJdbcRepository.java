@@ -0,0 +1,108 @@
+package com.three.recipingadsservicebe.abtest.repository;
+
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * A/B 테스트 집계 증분 upsert 전용 저장소
+ * 기존 행이 있으면 컬럼 단위 원자적 증가, 없으면 INSERT
+ * - PostgreSQL: INSERT ... ON CONFLICT DO UPDATE (다중 인스턴스 동시 flush에도 유니크 충돌 없음)
+ * - 그 외(H2): 표준 MERGE
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbTestRollupJdbcRepository {
+
+    private static final String POSTGRES_UPSERT_SQL = """
+            INSERT INTO ab_test_rollups
+                (bucket_start, scenario_code, ab_test_group, ad_id, position, impressions, clicks, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (bucket_start, scenario_code, ab_test_group, ad_id, position) DO UPDATE
+            SET impressions = ab_test_rollups.impressions + EXCLUDED.impressions,
+                clicks = ab_test_rollups.clicks + EXCLUDED.clicks,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String MERGE_SQL = """
+            MERGE INTO ab_test_rollups t
+            USING (SELECT CAST(? AS TIMESTAMP(6) WITH TIME ZONE) AS bucket_start,
+                          CAST(? AS VARCHAR(50)) AS scenario_code,
+                          CAST(? AS VARCHAR(15)) AS ab_test_group,
+                          CAST(? AS BIGINT) AS ad_id,
+                          CAST(? AS VARCHAR(50)) AS position,
+                          CAST(? AS BIGINT) AS impressions,
+                          CAST(? AS BIGINT) AS clicks,
+                          CAST(? AS TIMESTAMP(6) WITH TIME ZONE) AS updated_at) s
+            ON t.bucket_start = s.bucket_start
+               AND t.scenario_code = s.scenario_code
+               AND t.ab_test_group = s.ab_test_group
+               AND t.ad_id = s.ad_id
+               AND t.position = s.position
+            WHEN MATCHED THEN UPDATE
+                SET impressions = t.impressions + s.impressions,
+                    clicks = t.clicks + s.clicks,
+                    updated_at = s.updated_at
+            WHEN NOT MATCHED THEN INSERT
+                (bucket_start, scenario_code, ab_test_group, ad_id, position, impressions, clicks, updated_at)
+                VALUES (s.bucket_start, s.scenario_code, s.ab_test_group, s.ad_id, s.position,
+                        s.impressions, s.clicks, s.updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    /**
+     * 증분 upsert는 멱등이 아니므로 배치 전체를 한 트랜잭션으로 반영
+     * (일부만 커밋된 뒤 호출 측이 전체 증분을 재시도하면 이중 집계됨)
+     */
+    @Transactional
+    public void applyDeltas(List<AbTestRollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.batchUpdate(upsertSql(), deltas, deltas.size(), (ps, delta) -> bind(ps, delta, now));
+    }
+
+    /**
+     * cutoff 이전 분 버킷 삭제, 삭제 건수 반환 (기본 키 선두 컬럼 bucket_start 범위 삭제)
+     */
+    public int deleteOlderThan(OffsetDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM ab_test_rollups WHERE bucket_start < ?", cutoff);
+    }
+
+    private static void bind(PreparedStatement ps, AbTestRollupDelta delta, OffsetDateTime now) throws SQLException {
+        ps.setObject(1, delta.bucketStart());
+        ps.setString(2, delta.scenarioCode());
+        ps.setString(3, delta.abTestGroup().name());
+        ps.setLong(4, delta.adId());
+        ps.setString(5, delta.position());
+        ps.setLong(6, delta.impressions());
+        ps.setLong(7, delta.clicks());
+        ps.setObject(8, now);
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = "PostgreSQL".equalsIgnoreCase(product) ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    public record AbTestRollupDelta(OffsetDateTime bucketStart, String scenarioCode, AbTestGroup abTestGroup,
+                                    long adId, String position, long impressions, long clicks) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.three.recipingadsservicebe.abtest.repository;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestRollup;
+import com.three.recipingadsservicebe.abtest.entity.AbTestRollupId;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface AbTestRollupRepository extends JpaRepository<AbTestRollup, AbTestRollupId> {
+
+    /**
+     * 기간별 시나리오/그룹 합계 (분 단위 집계 행만 읽음, bucket_start 선두 기본 키 범위 조회)
+     */
+    @Query("""
+        SELECT
+            r.id.scenarioCode as scenarioCode,
+            r.id.abTestGroup as abGroup,
+            SUM(r.impressions) as impressions,
+            SUM(r.clicks) as clicks
+        FROM AbTestRollup r
+        WHERE r.id.bucketStart >= :start AND r.id.bucketStart < :end
+        GROUP BY r.id.scenarioCode, r.id.abTestGroup
+        """)
+    List<AbTestRollupTotals> sumByScenarioAndGroup(
+            @Param("start") OffsetDateTime start,
+            @Param("end") OffsetDateTime end);
+
+    /**
+     * 기간별 분 버킷 × 시나리오/그룹 합계 (버킷 시각 오름차순, 순차 검정 체크포인트용)
+     */
+    @Query("""
+        SELECT
+            r.id.bucketStart as bucketStart,
+            r.id.scenarioCode as scenarioCode,
+            r.id.abTestGroup as abGroup,
+            SUM(r.impressions) as impressions,
+            SUM(r.clicks) as clicks
+        FROM AbTestRollup r
+        WHERE r.id.bucketStart >= :start AND r.id.bucketStart < :end
+        GROUP BY r.id.bucketStart, r.id.scenarioCode, r.id.abTestGroup
+        ORDER BY r.id.bucketStart
+        """)
+    List<AbTestRollupBucketTotals> sumByBucketAndGroup(
+            @Param("start") OffsetDateTime start,
+            @Param("end") OffsetDateTime end);
+
+    interface AbTestRollupTotals {
+        String getScenarioCode();
+        AbTestGroup getAbGroup();
+        Long getImpressions();
+        Long getClicks();
+    }
+
+    interface AbTestRollupBucketTotals extends AbTestRollupTotals {
+        OffsetDateTime getBucketStart();
+    }
+}
@@ -0,0 +1,182 @@
+package com.three.recipingadsservicebe.abtest.scheduler;
+
+import com.three.recipingadsservicebe.abtest.repository.AbTestEventPartitionRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔧 A/B 테스트 이벤트 파티션 유지 및 보존 기간 정리
+ * - PostgreSQL(파티션 테이블): 오늘부터 aheadDays 일치 파티션을 미리 만들고,
+ *   보존 기간이 지난 일 단위 파티션(및 V3 이전 데이터 파티션)은 DETACH + DROP
+ * - 파티션 미지원 DB(H2 테스트 프로파일 등): created_at 기준 배치 DELETE로 대체
+ * - 분 단위 집계(ab_test_rollups)는 원본보다 긴 rollupRetentionDays 기준으로 삭제
+ * - DEFAULT 파티션이 없으므로 파티션이 없는 날짜의 행은 적재 실패 → 오늘 이후 파티션 수를 게이지로 노출해 알림
+ */
+@Slf4j
+@Component
+public class AbTestEventPartitionScheduler {
+
+    private final AbTestEventPartitionRepository partitionRepository;
+    private final AbTestRollupJdbcRepository rollupJdbcRepository;
+    private final ZoneId zone;
+    private final int aheadDays;
+    private final int retentionDays;
+    private final int deleteBatchSize;
+    private final int rollupRetentionDays;
+
+    private final Counter droppedPartitionCounter;
+    private final Counter deletedRowCounter;
+    private final Counter deletedRollupCounter;
+    // 오늘 포함 이후 일 단위 파티션 수 (정상: aheadDays + 1, 1 이하이면 내일 적재부터 실패)
+    private final AtomicInteger futurePartitions = new AtomicInteger(-1);
+
+    public AbTestEventPartitionScheduler(AbTestEventPartitionRepository partitionRepository,
+                                         AbTestRollupJdbcRepository rollupJdbcRepository,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${ads.abtest.partition.zone:Asia/Seoul}") String zone,
+                                         @Value("${ads.abtest.partition.ahead-days:7}") int aheadDays,
+                                         @Value("${ads.abtest.retention.days:90}") int retentionDays,
+                                         @Value("${ads.abtest.retention.delete-batch-size:10000}") int deleteBatchSize,
+                                         @Value("${ads.abtest.rollup.retention-days:400}") int rollupRetentionDays) {
+        this.partitionRepository = partitionRepository;
+        this.rollupJdbcRepository = rollupJdbcRepository;
+        this.zone = ZoneId.of(zone);
+        this.aheadDays = aheadDays;
+        this.retentionDays = retentionDays;
+        this.deleteBatchSize = deleteBatchSize;
+        this.rollupRetentionDays = rollupRetentionDays;
+
+        this.droppedPartitionCounter = Counter.builder("ads_abtest_events_partitions_dropped_total")
+                .description("A/B test event partitions dropped by the retention job")
+                .register(meterRegistry);
+        this.deletedRowCounter = Counter.builder("ads_abtest_events_retention_deleted_total")
+                .description("A/B test event rows deleted by the retention job on non-partitioned storage")
+                .register(meterRegistry);
+        this.deletedRollupCounter = Counter.builder("ads_abtest_rollup_retention_deleted_total")
+                .description("A/B rollup minute buckets deleted by the retention job")
+                .register(meterRegistry);
+        Gauge.builder("ads_abtest_events_future_partitions", futurePartitions, AtomicInteger::get)
+                .description("A/B test event daily partitions from today onward (-1 until checked or when not partitioned)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 직후 파티션 확보 (스케줄러가 멈춰 있던 사이 빠진 날짜 보충)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            ensurePartitions(LocalDate.now(zone));
+        } catch (Exception e) {
+            log.error("A/B 이벤트 파티션 초기 생성 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${ads.abtest.partition.cron:0 10 0 * * *}", zone = "${ads.abtest.partition.zone:Asia/Seoul}")
+    public void maintain() {
+        LocalDate today = LocalDate.now(zone);
+        try {
+            ensurePartitions(today);
+            applyRetention(today);
+            applyRollupRetention(today);
+        } catch (Exception e) {
+            log.error("A/B 이벤트 파티션 유지 작업 실패 - date: {}", today, e);
+        }
+    }
+
+    /**
+     * 오늘 ~ today + aheadDays 파티션 생성 (이미 있으면 무시)
+     */
+    void ensurePartitions(LocalDate today) {
+        if (!partitionRepository.isPartitioned()) {
+            return;
+        }
+        for (int offset = 0; offset <= aheadDays; offset++) {
+            LocalDate day = today.plusDays(offset);
+            try {
+                partitionRepository.createDailyPartition(day, zone);
+            } catch (Exception e) {
+                // 다중 인스턴스 동시 생성, V3 직후 legacy 구간과 겹치는 날짜 등
+                log.warn("A/B 이벤트 파티션 생성 실패 - partition: {}, error: {}",
+                        AbTestEventPartitionRepository.partitionName(day), e.getMessage());
+            }
+        }
+
+        long remaining = partitionRepository.findDailyPartitions().stream()
+                .map(AbTestEventPartitionRepository::partitionDay)
+                .filter(day -> !day.isBefore(today))
+                .count();
+        futurePartitions.set((int) remaining);
+        if (remaining <= 1) {
+            log.warn("A/B 이벤트 미래 파티션 부족, 파티션이 없는 날짜의 이벤트는 적재 실패 - 남은 파티션: {}", remaining);
+        }
+    }
+
+    /**
+     * 보존 기간(retentionDays) 이전 데이터 정리
+     */
+    void applyRetention(LocalDate today) {
+        LocalDate cutoffDay = today.minusDays(retentionDays);
+        OffsetDateTime cutoff = cutoffDay.atStartOfDay(zone).toOffsetDateTime();
+
+        if (!partitionRepository.isPartitioned()) {
+            int deleted;
+            long total = 0;
+            do {
+                deleted = partitionRepository.deleteOlderThan(cutoff, deleteBatchSize);
+                total += deleted;
+            } while (deleted >= deleteBatchSize);
+            if (total > 0) {
+                deletedRowCounter.increment(total);
+                log.info("A/B 이벤트 보존 기간 경과 행 삭제 완료 - cutoff: {}, 건수: {}", cutoff, total);
+            }
+            return;
+        }
+
+        // 파티션 [day, day + 1)이 통째로 cutoff 이전이면 삭제
+        for (String partition : partitionRepository.findDailyPartitions()) {
+            if (AbTestEventPartitionRepository.partitionDay(partition).isBefore(cutoffDay)) {
+                dropPartition(partition);
+            }
+        }
+        if (partitionRepository.isLegacyPartitionExpired(cutoff)) {
+            dropPartition(AbTestEventPartitionRepository.LEGACY_PARTITION);
+        }
+    }
+
+    /**
+     * 집계 테이블 보존 기간(rollupRetentionDays) 이전 버킷 삭제
+     * 결과 스냅샷은 남아 있는 버킷의 합이므로, 보존 기간은 실험 기간보다 길게 설정
+     */
+    void applyRollupRetention(LocalDate today) {
+        OffsetDateTime cutoff = today.minusDays(rollupRetentionDays).atStartOfDay(zone).toOffsetDateTime();
+        int deleted = rollupJdbcRepository.deleteOlderThan(cutoff);
+        if (deleted > 0) {
+            deletedRollupCounter.increment(deleted);
+            log.info("A/B 집계 보존 기간 경과 버킷 삭제 완료 - cutoff: {}, 건수: {}", cutoff, deleted);
+        }
+    }
+
+    private void dropPartition(String partition) {
+        try {
+            partitionRepository.dropPartition(partition);
+            droppedPartitionCounter.increment();
+            log.info("A/B 이벤트 파티션 삭제 완료 - partition: {}", partition);
+        } catch (Exception e) {
+            log.warn("A/B 이벤트 파티션 삭제 실패 - partition: {}, error: {}", partition, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.three.recipingadsservicebe.abtest.service;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
+import com.three.recipingadsservicebe.abtest.repository.AbTestEventJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔧 A/B 테스트 이벤트 비동기 배치 적재 버퍼
+ * - 서빙 스레드는 bounded 큐에 offer만 수행 (가득 차면 즉시 드롭, 블로킹 없음)
+ * - 백그라운드 writer가 batchSize 도달 또는 flushInterval 경과 시 multi-row INSERT
+ */
+@Slf4j
+@Component
+public class AbTestEventBuffer {
+
+    private final AbTestEventJdbcRepository abTestEventJdbcRepository;
+    private final BlockingQueue<AbTestEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AbTestEventBuffer(AbTestEventJdbcRepository abTestEventJdbcRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${ads.abtest.event-buffer.capacity:10000}") int capacity,
+                             @Value("${ads.abtest.event-buffer.batch-size:500}") int batchSize,
+                             @Value("${ads.abtest.event-buffer.flush-interval-ms:200}") long flushIntervalMs) {
+        this.abTestEventJdbcRepository = abTestEventJdbcRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        this.enqueuedCounter = Counter.builder("ads_abtest_events_enqueued_total")
+                .description("A/B test events accepted into the write buffer")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("ads_abtest_events_dropped_total")
+                .description("A/B test events dropped because the write buffer was full")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("ads_abtest_events_flushed_total")
+                .description("A/B test events written to the database")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("ads_abtest_events_failed_total")
+                .description("A/B test events lost because a batch insert failed")
+                .register(meterRegistry);
+        Gauge.builder("ads_abtest_events_buffer_size", queue, BlockingQueue::size)
+                .description("A/B test events waiting in the write buffer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "abtest-event-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 남은 이벤트까지 적재
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(flushIntervalMs * 2 + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainAndFlush();
+    }
+
+    /**
+     * 논블로킹 적재 요청 (큐가 가득 차면 드롭)
+     */
+    public boolean offer(AbTestEvent event) {
+        if (queue.offer(event)) {
+            enqueuedCounter.increment();
+            return true;
+        }
+        droppedCounter.increment();
+        log.debug("A/B 이벤트 버퍼 포화로 드롭 - userId: {}, adId: {}", event.getUserId(), event.getAdId());
+        return false;
+    }
+
+    /**
+     * 큐에 남은 이벤트를 모두 적재 (종료/테스트용)
+     */
+    void drainAndFlush() {
+        List<AbTestEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void runWriter() {
+        List<AbTestEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AbTestEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // size-or-time 트리거: batchSize가 차거나 첫 이벤트 이후 flushInterval 경과 시 적재
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    AbTestEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<AbTestEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            abTestEventJdbcRepository.insertAll(batch);
+            flushedCounter.increment(batch.size());
+            log.debug("A/B 이벤트 배치 적재 완료 - 건수: {}", batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("A/B 이벤트 배치 적재 실패 - 건수: {}", batch.size(), e);
+        }
+    }
+}
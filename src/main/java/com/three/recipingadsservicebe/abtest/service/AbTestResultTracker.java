@@ -0,0 +1,181 @@
+package com.three.recipingadsservicebe.abtest.service;
+
+import com.three.recipingadsservicebe.abtest.dto.AbTestResultDto;
+import com.three.recipingadsservicebe.abtest.dto.AbTestSignificanceDto;
+import com.three.recipingadsservicebe.abtest.enums.AbTestScenario;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository.AbTestRollupBucketTotals;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository.AbTestRollupTotals;
+import com.three.recipingadsservicebe.abtest.stats.AbTestSignificanceCalculator;
+import com.three.recipingadsservicebe.abtest.stats.AbTestSignificanceCalculator.Comparison;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🔧 A/B 테스트 누적 결과 스냅샷 (대시보드 폴링은 메모리 스냅샷만 읽음)
+ * - 확정 구간(현재 분 - settleMinutes 이전)은 워터마크 이후 새 버킷만 집계 테이블에서 읽어 누적 합계에 더함
+ * - 미확정 구간(최근 settleMinutes 분)은 갱신마다 다시 합산 (다른 인스턴스의 flush 반영)
+ * - 유의성 p-value는 확정된 분 버킷 경계마다 계산한 mSPRT 값의 누적 최소값과 현재 값 중 작은 쪽
+ *   체크포인트가 갱신 시점이 아니라 집계 테이블의 버킷으로 정해지므로 재기동/인스턴스와 무관하게 같은 값
+ * 확정 구간으로 넘어간 뒤 늦게 반영된 증분(장시간 flush 재시도 등)은 재기동 전까지 포함되지 않음
+ */
+@Slf4j
+@Component
+public class AbTestResultTracker {
+
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final AbTestRollupRepository abTestRollupRepository;
+    private final int settleMinutes;
+    private final double z;
+    private final double alpha;
+    private final double mixtureVariance;
+
+    // refresh()에서만 갱신 (synchronized)
+    private final Map<TotalsKey, long[]> settledTotals = new HashMap<>();
+    private OffsetDateTime watermark;
+    private double settledMinPValue = 1.0;
+
+    private volatile AbTestSignificanceDto snapshot;
+
+    public AbTestResultTracker(AbTestRollupRepository abTestRollupRepository,
+                               @Value("${ads.abtest.results.settle-minutes:5}") int settleMinutes,
+                               @Value("${ads.abtest.results.z-score:1.96}") double z,
+                               @Value("${ads.abtest.results.alpha:0.05}") double alpha,
+                               @Value("${ads.abtest.results.mixture-variance:0.0001}") double mixtureVariance) {
+        this.abTestRollupRepository = abTestRollupRepository;
+        this.settleMinutes = settleMinutes;
+        this.z = z;
+        this.alpha = alpha;
+        this.mixtureVariance = mixtureVariance;
+    }
+
+    /**
+     * 최신 스냅샷 (기동 직후 아직 없으면 한 번 갱신, 그래도 실패하면 null)
+     */
+    public AbTestSignificanceDto getSnapshot() {
+        AbTestSignificanceDto current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${ads.abtest.results.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            refresh(OffsetDateTime.now());
+        } catch (Exception e) {
+            log.warn("A/B 결과 스냅샷 갱신 실패, 이전 스냅샷 유지 - error: {}", e.getMessage());
+        }
+    }
+
+    synchronized void refresh(OffsetDateTime now) {
+        OffsetDateTime settledUntil = AbTestRollupAggregator.bucketOf(now).minusMinutes(settleMinutes);
+        OffsetDateTime from = watermark != null ? watermark : EPOCH;
+        if (settledUntil.isAfter(from)) {
+            settle(abTestRollupRepository.sumByBucketAndGroup(from, settledUntil));
+            watermark = settledUntil;
+        }
+
+        Map<TotalsKey, long[]> totals = new HashMap<>();
+        settledTotals.forEach((key, counts) -> totals.put(key, counts.clone()));
+        // 시계 오차를 고려해 미래 버킷까지 포함
+        addAll(totals, abTestRollupRepository.sumByScenarioAndGroup(watermark, now.plusDays(1)));
+
+        snapshot = buildSnapshot(totals, now);
+    }
+
+    /**
+     * 확정 버킷을 시각 순으로 누적하며 버킷 경계마다 p-value 누적 최소값 갱신
+     */
+    private void settle(List<AbTestRollupBucketTotals> rows) {
+        OffsetDateTime bucket = null;
+        for (AbTestRollupBucketTotals row : rows) {
+            if (bucket != null && !row.getBucketStart().isEqual(bucket)) {
+                settledMinPValue = Math.min(settledMinPValue, compare(settledTotals).pValue());
+            }
+            addAll(settledTotals, List.of(row));
+            bucket = row.getBucketStart();
+        }
+        if (bucket != null) {
+            settledMinPValue = Math.min(settledMinPValue, compare(settledTotals).pValue());
+        }
+    }
+
+    private AbTestSignificanceDto buildSnapshot(Map<TotalsKey, long[]> totals, OffsetDateTime now) {
+        long[][] groups = groupTotals(totals);
+        long[] control = groups[0];
+        long[] treatment = groups[1];
+
+        List<AbTestResultDto> scenarios = totals.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(TotalsKey::scenarioCode)))
+                .map(entry -> AbTestResultDto.of(entry.getKey().scenarioCode(), entry.getKey().abTestGroup(),
+                        entry.getValue()[0], entry.getValue()[1], z))
+                .toList();
+
+        Comparison comparison = compare(totals);
+        double sequentialPValue = Math.min(settledMinPValue, comparison.pValue());
+
+        return AbTestSignificanceDto.builder()
+                .scenarios(scenarios)
+                .control(AbTestResultDto.of(AbTestScenario.CONTROL.getScenarioCode(), AbTestGroup.CONTROL,
+                        control[0], control[1], z))
+                .treatment(AbTestResultDto.of(AbTestScenario.TREATMENT.getScenarioCode(), AbTestGroup.TREATMENT,
+                        treatment[0], treatment[1], z))
+                .ctrDifference(comparison.absoluteDifference())
+                .ctrDifferenceLower(comparison.differenceInterval().lower())
+                .ctrDifferenceUpper(comparison.differenceInterval().upper())
+                .lift(comparison.lift())
+                .liftLower(comparison.liftInterval() != null ? comparison.liftInterval().lower() : null)
+                .liftUpper(comparison.liftInterval() != null ? comparison.liftInterval().upper() : null)
+                .sequentialPValue(sequentialPValue)
+                .alpha(alpha)
+                .significant(sequentialPValue < alpha)
+                .confidenceZ(z)
+                .refreshedAt(now)
+                .build();
+    }
+
+    private Comparison compare(Map<TotalsKey, long[]> totals) {
+        long[][] groups = groupTotals(totals);
+        return AbTestSignificanceCalculator.compare(
+                groups[0][0], groups[0][1], groups[1][0], groups[1][1], z, mixtureVariance);
+    }
+
+    /**
+     * [control, treatment] × [노출, 클릭]
+     */
+    private static long[][] groupTotals(Map<TotalsKey, long[]> totals) {
+        long[][] groups = new long[2][2];
+        totals.forEach((key, counts) -> {
+            long[] target = groups[key.abTestGroup() == AbTestGroup.TREATMENT ? 1 : 0];
+            target[0] += counts[0];
+            target[1] += counts[1];
+        });
+        return groups;
+    }
+
+    private static void addAll(Map<TotalsKey, long[]> totals, List<? extends AbTestRollupTotals> rows) {
+        for (AbTestRollupTotals row : rows) {
+            long[] counts = totals.computeIfAbsent(new TotalsKey(row.getScenarioCode(), row.getAbGroup()),
+                    key -> new long[2]);
+            counts[0] += row.getImpressions() != null ? row.getImpressions() : 0L;
+            counts[1] += row.getClicks() != null ? row.getClicks() : 0L;
+        }
+    }
+
+    private record TotalsKey(String scenarioCode, AbTestGroup abTestGroup) {
+    }
+}
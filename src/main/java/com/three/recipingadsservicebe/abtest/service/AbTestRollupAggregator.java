@@ -0,0 +1,130 @@
+package com.three.recipingadsservicebe.abtest.service;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
+import com.three.recipingadsservicebe.abtest.entity.AbTestRollupId;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository.AbTestRollupDelta;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🔧 A/B 테스트 분 단위 집계 write-behind
+ * - 이벤트 기록 시 (분, 시나리오, 그룹, 광고, 포지션) 키의 LongAdder 증가만 수행
+ * - 주기적으로 누적 증분을 ab_test_rollups에 증분 upsert (실패 시 다음 주기에 재시도)
+ * - 증분이 없고 지난 분 버킷인 키는 제거해 메모리 사용량을 최근 버킷 수준으로 유지
+ */
+@Slf4j
+@Component
+public class AbTestRollupAggregator {
+
+    private final AbTestRollupJdbcRepository abTestRollupJdbcRepository;
+    private final Map<RollupKey, RollupCounters> counters = new ConcurrentHashMap<>();
+    private final Counter failedFlushCounter;
+
+    public AbTestRollupAggregator(AbTestRollupJdbcRepository abTestRollupJdbcRepository, MeterRegistry meterRegistry) {
+        this.abTestRollupJdbcRepository = abTestRollupJdbcRepository;
+        this.failedFlushCounter = Counter.builder("ads_abtest_rollup_flush_failed_total")
+                .description("A/B rollup flushes that failed and were re-queued")
+                .register(meterRegistry);
+        Gauge.builder("ads_abtest_rollup_keys", counters, Map::size)
+                .description("A/B rollup keys held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 1건 집계 (IMPRESSION / CLICK)
+     */
+    public void record(AbTestEvent event) {
+        RollupKey key = new RollupKey(
+                bucketOf(event.getCreatedAt()),
+                event.getScenarioCode(),
+                event.getAbTestGroup(),
+                event.getAdId() != null ? event.getAdId() : AbTestRollupId.NO_AD_ID,
+                event.getPosition());
+        RollupCounters rollupCounters = counters.computeIfAbsent(key, k -> new RollupCounters());
+        if ("CLICK".equals(event.getEventType())) {
+            rollupCounters.clicks.increment();
+        } else {
+            rollupCounters.impressions.increment();
+        }
+    }
+
+    /**
+     * 누적 증분을 DB에 반영 (실패 시 증분을 되돌려 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${ads.abtest.rollup.flush-interval-ms:10000}")
+    public void flush() {
+        // 이벤트는 생성 직후 집계되므로 직전 분보다 오래된 버킷에는 더 이상 증분이 들어오지 않음
+        OffsetDateTime idleBefore = bucketOf(OffsetDateTime.now()).minusMinutes(1);
+
+        List<AbTestRollupDelta> deltas = new ArrayList<>();
+        counters.forEach((key, rollupCounters) -> {
+            collect(deltas, key, rollupCounters);
+            if (key.bucketStart().isBefore(idleBefore) && counters.remove(key, rollupCounters)) {
+                // 제거 직전에 들어온 증분까지 회수
+                collect(deltas, key, rollupCounters);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            abTestRollupJdbcRepository.applyDeltas(deltas);
+            log.debug("A/B 집계 반영 완료 - 키 수: {}", deltas.size());
+        } catch (Exception e) {
+            failedFlushCounter.increment();
+            log.error("A/B 집계 반영 실패, 다음 주기에 재시도 - 키 수: {}", deltas.size(), e);
+            for (AbTestRollupDelta delta : deltas) {
+                RollupKey key = new RollupKey(delta.bucketStart(), delta.scenarioCode(), delta.abTestGroup(),
+                        delta.adId(), delta.position());
+                RollupCounters rollupCounters = counters.computeIfAbsent(key, k -> new RollupCounters());
+                rollupCounters.impressions.add(delta.impressions());
+                rollupCounters.clicks.add(delta.clicks());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    static OffsetDateTime bucketOf(OffsetDateTime createdAt) {
+        return createdAt.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private static void collect(List<AbTestRollupDelta> deltas, RollupKey key, RollupCounters rollupCounters) {
+        long impressions = rollupCounters.impressions.sumThenReset();
+        long clicks = rollupCounters.clicks.sumThenReset();
+        if (impressions != 0 || clicks != 0) {
+            deltas.add(new AbTestRollupDelta(key.bucketStart(), key.scenarioCode(), key.abTestGroup(),
+                    key.adId(), key.position(), impressions, clicks));
+        }
+    }
+
+    private record RollupKey(OffsetDateTime bucketStart, String scenarioCode, AbTestGroup abTestGroup,
+                             long adId, String position) {
+    }
+
+    private static final class RollupCounters {
+        private final LongAdder impressions = new LongAdder();
+        private final LongAdder clicks = new LongAdder();
+    }
+}
@@ -1,19 +1,30 @@
 package com.three.recipingadsservicebe.abtest.service;
+import com.three.recipingadsservicebe.abtest.dto.AbTestResultDto;
 import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
 import com.three.recipingadsservicebe.abtest.enums.AbTestScenario;
 import com.three.recipingadsservicebe.abtest.repository.AbTestEventRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository;
+import com.three.recipingadsservicebe.abtest.stats.AbTestSignificanceCalculator;
 import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
 import com.three.recipingadsservicebe.ad.enums.AdPosition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AbTestService {
     private final AbTestEventRepository abTestEventRepository;
+    private final AbTestEventBuffer abTestEventBuffer;
+    private final AbTestRollupAggregator abTestRollupAggregator;
+    private final AbTestRollupRepository abTestRollupRepository;
 
     /**
      * 사용자 A/B 테스트 그룹 결정
@@ -25,19 +36,19 @@ public class AbTestService {
     }
 
     /**
-     * 광고 노출 이벤트 기록
+     * 광고 노출 이벤트 기록 (비동기 배치 버퍼로 위임, 서빙 스레드에서 DB 접근 없음)
      */
-    @Transactional
     public void recordImpression(Long userId, String scenarioCode, AbTestGroup group,
                                  Long adId, AdPosition position) {
         try {
             AbTestEvent impression = AbTestEvent.createImpression(
                     userId, scenarioCode, group, adId, position.name());
 
-            abTestEventRepository.save(impression);
-
-            log.debug("노출 이벤트 기록 완료 - userId: {}, adId: {}, group: {}",
-                    userId, adId, group);
+            if (abTestEventBuffer.offer(impression)) {
+                abTestRollupAggregator.record(impression);
+                log.debug("노출 이벤트 적재 요청 완료 - userId: {}, adId: {}, group: {}",
+                        userId, adId, group);
+            }
         } catch (Exception e) {
             log.error("노출 이벤트 기록 실패 - userId: {}, adId: {}", userId, adId, e);
         }
@@ -54,6 +65,7 @@ public class AbTestService {
                     userId, scenarioCode, group, adId, position.name());
 
             abTestEventRepository.save(click);
+            recordRollupAfterCommit(click);
 
             log.info("클릭 이벤트 기록 완료 - userId: {}, adId: {}, group: {}",
                     userId, adId, group);
@@ -61,4 +73,34 @@ public class AbTestService {
             log.error("클릭 이벤트 기록 실패 - userId: {}, adId: {}", userId, adId, e);
         }
     }
+
+    /**
+     * 클릭 원본이 커밋된 뒤에만 집계에 반영 (롤백된 클릭이 집계에 남지 않도록)
+     */
+    private void recordRollupAfterCommit(AbTestEvent click) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            abTestRollupAggregator.record(click);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                abTestRollupAggregator.record(click);
+            }
+        });
+    }
+
+    /**
+     * 기간별 시나리오/그룹 A/B 결과 (원본 이벤트 대신 분 단위 집계 테이블 조회)
+     * - 분 버킷 단위이므로 start/end는 분 경계로 맞춰 전달하는 것을 권장
+     * - 아직 flush되지 않은 최근 ads.abtest.rollup.flush-interval-ms 구간은 포함되지 않음
+     */
+    @Transactional(readOnly = true)
+    public List<AbTestResultDto> getResults(OffsetDateTime start, OffsetDateTime end) {
+        return abTestRollupRepository.sumByScenarioAndGroup(start, end).stream()
+                .map(totals -> AbTestResultDto.of(
+                        totals.getScenarioCode(), totals.getAbGroup(), totals.getImpressions(), totals.getClicks(),
+                        AbTestSignificanceCalculator.Z_95))
+                .toList();
+    }
 }
@@ -0,0 +1,101 @@
+package com.three.recipingadsservicebe.abtest.stats;
+
+/**
+ * 🎯 A/B 테스트 CTR 비교 통계 (누적 노출/클릭 수만으로 계산, 원본 이벤트 불필요)
+ * - 그룹별 CTR 신뢰구간: Wilson score interval
+ * - 차이(treatment - control) 신뢰구간: 정규 근사
+ * - lift(treatment / control - 1) 신뢰구간: 로그 비율의 delta method
+ * - 순차 검정 p-value: 정규 혼합 mSPRT (언제 들여다봐도 유효한 always-valid p-value)
+ */
+public final class AbTestSignificanceCalculator {
+
+    /** 양측 95% 신뢰구간 z 값 */
+    public static final double Z_95 = 1.959963984540054;
+
+    private AbTestSignificanceCalculator() {
+    }
+
+    public record Interval(double lower, double upper) {
+    }
+
+    /**
+     * @param lift          control CTR이 0이면 null
+     * @param liftInterval  어느 그룹이든 클릭이 0이면 null
+     * @param pValue        현재 시점 mSPRT p-value (시점별 값, 누적 최소값은 호출 측에서 유지)
+     */
+    public record Comparison(double absoluteDifference, Interval differenceInterval,
+                             Double lift, Interval liftInterval, double pValue) {
+    }
+
+    public static double ctr(long clicks, long impressions) {
+        return impressions > 0 ? (double) clicks / impressions : 0.0;
+    }
+
+    /**
+     * Wilson score interval (노출이 적거나 CTR이 0에 가까워도 [0, 1] 범위 유지)
+     */
+    public static Interval wilsonInterval(long clicks, long impressions, double z) {
+        if (impressions <= 0) {
+            return new Interval(0.0, 1.0);
+        }
+        double n = impressions;
+        double p = (double) clicks / n;
+        double z2 = z * z;
+        double denominator = 1 + z2 / n;
+        double center = (p + z2 / (2 * n)) / denominator;
+        double halfWidth = z * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / denominator;
+        return new Interval(Math.max(0.0, center - halfWidth), Math.min(1.0, center + halfWidth));
+    }
+
+    /**
+     * control 대비 treatment 비교
+     *
+     * @param mixtureVariance mSPRT 혼합 분포 분산 τ² (기대하는 CTR 차이 크기의 제곱 수준)
+     */
+    public static Comparison compare(long controlImpressions, long controlClicks,
+                                     long treatmentImpressions, long treatmentClicks,
+                                     double z, double mixtureVariance) {
+        double controlCtr = ctr(controlClicks, controlImpressions);
+        double treatmentCtr = ctr(treatmentClicks, treatmentImpressions);
+        double difference = treatmentCtr - controlCtr;
+        double variance = differenceVariance(controlImpressions, controlCtr, treatmentImpressions, treatmentCtr);
+        double standardError = Math.sqrt(variance);
+
+        Interval differenceInterval = new Interval(difference - z * standardError, difference + z * standardError);
+
+        Double lift = controlCtr > 0 ? treatmentCtr / controlCtr - 1 : null;
+        Interval liftInterval = null;
+        if (lift != null && treatmentClicks > 0) {
+            double logRatio = Math.log(treatmentCtr / controlCtr);
+            double logStandardError = Math.sqrt(1.0 / treatmentClicks - 1.0 / treatmentImpressions
+                    + 1.0 / controlClicks - 1.0 / controlImpressions);
+            liftInterval = new Interval(Math.exp(logRatio - z * logStandardError) - 1,
+                    Math.exp(logRatio + z * logStandardError) - 1);
+        }
+
+        return new Comparison(difference, differenceInterval, lift, liftInterval,
+                msprtPValue(difference, variance, mixtureVariance));
+    }
+
+    /**
+     * 정규 혼합 mSPRT p-value = min(1, 1 / Λ)
+     * Λ = sqrt(V / (V + τ²)) · exp(τ² θ² / (2V (V + τ²))), θ: CTR 차이 추정치, V: 그 분산
+     */
+    public static double msprtPValue(double difference, double variance, double mixtureVariance) {
+        if (variance <= 0 || mixtureVariance <= 0) {
+            return 1.0;
+        }
+        double logLikelihoodRatio = 0.5 * Math.log(variance / (variance + mixtureVariance))
+                + mixtureVariance * difference * difference / (2 * variance * (variance + mixtureVariance));
+        return Math.min(1.0, Math.exp(-logLikelihoodRatio));
+    }
+
+    private static double differenceVariance(long controlImpressions, double controlCtr,
+                                             long treatmentImpressions, double treatmentCtr) {
+        if (controlImpressions <= 0 || treatmentImpressions <= 0) {
+            return 0.0;
+        }
+        return controlCtr * (1 - controlCtr) / controlImpressions
+                + treatmentCtr * (1 - treatmentCtr) / treatmentImpressions;
+    }
+}
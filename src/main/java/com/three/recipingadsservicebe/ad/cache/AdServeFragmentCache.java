@@ -0,0 +1,137 @@
+package com.three.recipingadsservicebe.ad.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.event.AdChangedEvent;
+import com.three.recipingadsservicebe.ad.mapper.AdMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🔧 서빙 응답 JSON 조각 캐시
+ * - 광고별 AdServeResponse JSON을 한 번만 렌더링해 adId로 보관
+ * - 광고 변경 커밋 시 제거하고, 인덱스가 새 엔티티로 갱신되면(인스턴스가 바뀌면) 다시 렌더링
+ * - 응답 본문은 캐시된 바이트를 이어 붙여 구성하므로 요청 경로에서 Jackson을 호출하지 않음
+ */
+@Slf4j
+@Component
+public class AdServeFragmentCache {
+
+    private static final byte[] BODY_PREFIX = "{\"ads\":{".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOTAL_COUNT_PREFIX = "},\"totalCount\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY_SUFFIX = ",\"message\":\"광고 서빙 완료\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, RenderedAd> fragments;
+
+    public AdServeFragmentCache(ObjectMapper objectMapper,
+                                @Value("${ads.serving.fragment-cache.maximum-size:50000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.fragments = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 광고 변경 커밋 이후 조각 제거 (다음 서빙 시 최신 엔티티로 재렌더링)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAdChanged(AdChangedEvent event) {
+        fragments.invalidate(event.getAdId());
+        log.debug("서빙 응답 조각 제거 - adId: {}", event.getAdId());
+    }
+
+    /**
+     * 광고 한 건의 JSON 조각 (캐시된 엔티티 인스턴스와 다르면 재렌더링)
+     */
+    public byte[] adFragment(Ad ad) {
+        RenderedAd rendered = fragments.getIfPresent(ad.getId());
+        if (rendered == null || rendered.source() != ad) {
+            rendered = new RenderedAd(ad, render(ad));
+            fragments.put(ad.getId(), rendered);
+        }
+        return rendered.json();
+    }
+
+    /**
+     * "POSITION":[광고 조각...] 형태의 포지션 조각
+     */
+    public byte[] positionFragment(String position, List<Ad> ads) {
+        ByteArrayOutputStream fragment = new ByteArrayOutputStream(64 + ads.size() * 256);
+        fragment.write('"');
+        fragment.writeBytes(position.getBytes(StandardCharsets.UTF_8));
+        fragment.writeBytes("\":[".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < ads.size(); i++) {
+            if (i > 0) {
+                fragment.write(',');
+            }
+            fragment.writeBytes(adFragment(ads.get(i)));
+        }
+        fragment.write(']');
+        return fragment.toByteArray();
+    }
+
+    /**
+     * 포지션별 추천 결과 전체를 응답 본문으로 구성
+     */
+    public byte[] body(Map<String, List<Ad>> adsByPosition) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(2048);
+        body.writeBytes(BODY_PREFIX);
+        int totalCount = 0;
+        boolean first = true;
+        for (Map.Entry<String, List<Ad>> entry : adsByPosition.entrySet()) {
+            if (!first) {
+                body.write(',');
+            }
+            first = false;
+            body.writeBytes(positionFragment(entry.getKey(), entry.getValue()));
+            totalCount += entry.getValue().size();
+        }
+        return finish(body, totalCount);
+    }
+
+    /**
+     * 미리 만들어 둔 포지션 조각들로 응답 본문 구성
+     */
+    public static byte[] body(List<byte[]> positionFragments, int totalCount) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(2048);
+        body.writeBytes(BODY_PREFIX);
+        for (int i = 0; i < positionFragments.size(); i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            body.writeBytes(positionFragments.get(i));
+        }
+        return finish(body, totalCount);
+    }
+
+    private static byte[] finish(ByteArrayOutputStream body, int totalCount) {
+        body.writeBytes(TOTAL_COUNT_PREFIX);
+        body.writeBytes(Integer.toString(totalCount).getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(BODY_SUFFIX);
+        return body.toByteArray();
+    }
+
+    private byte[] render(Ad ad) {
+        try {
+            return objectMapper.writeValueAsBytes(AdMapper.toServeResponse(ad));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("서빙 응답 직렬화 실패 - adId: " + ad.getId(), e);
+        }
+    }
+
+    private record RenderedAd(Ad source, byte[] json) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.three.recipingadsservicebe.ad.cache;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.index.AdServingIndex;
+import com.three.recipingadsservicebe.ad.service.AdRecommendationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔧 비개인화(비로그인/Control) 서빙 응답 캐시
+ * - 포지션별로 랜덤 추출 결과 여러 벌(variant)의 JSON 조각을 만들어 두고 요청마다 하나를 골라 이어 붙임
+ *   (한 벌만 캐싱하면 TTL 동안 모든 게스트가 같은 광고만 보므로 로테이션 유지용)
+ * - 짧은 TTL 또는 서빙 인덱스 재구성(광고 변경/기간 경계) 시 다음 요청에서 다시 추출
+ * - 캐시 히트 경로는 인덱스 조회와 Jackson 직렬화를 모두 건너뜀
+ */
+@Slf4j
+@Component
+public class AdServePayloadCache {
+
+    private final AdRecommendationService adRecommendationService;
+    private final AdServingIndex adServingIndex;
+    private final AdServeFragmentCache adServeFragmentCache;
+    private final long ttlNanos;
+    private final int variantCount;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private final Map<AdPosition, PositionVariants> variantsByPosition = new ConcurrentHashMap<>();
+
+    public AdServePayloadCache(AdRecommendationService adRecommendationService,
+                               AdServingIndex adServingIndex,
+                               AdServeFragmentCache adServeFragmentCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${ads.serving.payload-cache.ttl-ms:1000}") long ttlMs,
+                               @Value("${ads.serving.payload-cache.variants:16}") int variantCount) {
+        this.adRecommendationService = adRecommendationService;
+        this.adServingIndex = adServingIndex;
+        this.adServeFragmentCache = adServeFragmentCache;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.variantCount = Math.max(1, variantCount);
+
+        this.hitCounter = Counter.builder("ads_serve_payload_cache_requests_total")
+                .description("Non-personalized serve payload lookups by cache result")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("ads_serve_payload_cache_requests_total")
+                .description("Non-personalized serve payload lookups by cache result")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전 포지션 응답 본문 구성 (포지션마다 캐시된 variant 중 하나를 무작위 선택)
+     */
+    public ServePayload get() {
+        AdPosition[] positions = AdPosition.values();
+        Map<String, List<Ad>> adsByPosition = new HashMap<>();
+        List<byte[]> positionFragments = new ArrayList<>(positions.length);
+
+        int totalCount = 0;
+        for (AdPosition position : positions) {
+            PositionPayload payload = positionPayload(position);
+            positionFragments.add(payload.fragment());
+            adsByPosition.put(position.name(), payload.ads());
+            totalCount += payload.ads().size();
+        }
+        return new ServePayload(adsByPosition, totalCount, AdServeFragmentCache.body(positionFragments, totalCount));
+    }
+
+    /**
+     * 포지션별 variant 조회 (TTL 경과 또는 인덱스 버전 변경 시 재추출)
+     */
+    PositionPayload positionPayload(AdPosition position) {
+        long now = System.nanoTime();
+        long indexVersion = adServingIndex.version();
+
+        PositionVariants current = variantsByPosition.get(position);
+        if (current != null && current.isFresh(now, indexVersion)) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+            // 같은 포지션의 동시 미스는 한 번만 재추출
+            current = variantsByPosition.compute(position, (key, existing) ->
+                    existing != null && existing.isFresh(now, indexVersion)
+                            ? existing
+                            : build(key, now, indexVersion));
+        }
+        return current.variants()[ThreadLocalRandom.current().nextInt(current.variants().length)];
+    }
+
+    private PositionVariants build(AdPosition position, long now, long indexVersion) {
+        PositionPayload[] variants = new PositionPayload[variantCount];
+        for (int i = 0; i < variantCount; i++) {
+            List<Ad> ads = List.copyOf(adRecommendationService.selectRandomAds(position));
+            variants[i] = new PositionPayload(ads, adServeFragmentCache.positionFragment(position.name(), ads));
+        }
+        log.debug("비개인화 서빙 응답 캐시 갱신 - position: {}, variants: {}, indexVersion: {}",
+                position, variantCount, indexVersion);
+        return new PositionVariants(variants, now + ttlNanos, indexVersion);
+    }
+
+    /**
+     * 응답 본문과 노출 기록용 광고 목록
+     */
+    public record ServePayload(Map<String, List<Ad>> adsByPosition, int totalCount, byte[] body) {
+    }
+
+    record PositionPayload(List<Ad> ads, byte[] fragment) {
+    }
+
+    private record PositionVariants(PositionPayload[] variants, long expiresAt, long indexVersion) {
+        boolean isFresh(long now, long currentIndexVersion) {
+            return indexVersion == currentIndexVersion && now - expiresAt < 0;
+        }
+    }
+}
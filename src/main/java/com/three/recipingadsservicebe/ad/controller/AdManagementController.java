@@ -1,8 +1,8 @@
 package com.three.recipingadsservicebe.ad.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.three.recipingadsservicebe.ad.dto.*;
 import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
 import com.three.recipingadsservicebe.ad.mapper.AdMapper;
 import com.three.recipingadsservicebe.ad.service.AdCommandService;
 import com.three.recipingadsservicebe.ad.service.AdQueryService;
@@ -23,6 +23,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -33,7 +34,7 @@ public class AdManagementController {
 
     private final AdCommandService adCommandService;
     private final AdQueryService adQueryService;
-    private final ObjectMapper objectMapper;
+    private final AdLogger adLogger;
 
     /**
      * 🔧 광고 생성
@@ -160,6 +161,49 @@ public class AdManagementController {
         }
     }
 
+    /**
+     * 🔧 송출 가능 광고 랭킹 조회 (서빙 순위 기준 상위 N건)
+     */
+    @GetMapping("/ranking")
+//    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getAdRanking(
+            @RequestParam(required = false) AdPosition position,
+            @RequestParam(defaultValue = "10") int limit,
+            HttpServletRequest httpRequest) {
+
+        Long currentUserId = getCurrentUserId();
+        log.info("광고 랭킹 조회 요청 - userId: {}, position: {}, limit: {}", currentUserId, position, limit);
+
+        try {
+            int boundedLimit = Math.max(1, Math.min(limit, 100));
+            List<AdResponse> rankedAds = adQueryService.getTopRankedAds(position, boundedLimit).stream()
+                    .map(AdMapper::toResponse)
+                    .toList();
+
+            // 로깅
+            logAdAction(LogType.VIEW, httpRequest, currentUserId, null,
+                    Map.of("position", position != null ? position.name() : "ALL",
+                            "limit", boundedLimit,
+                            "resultCount", rankedAds.size()));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("ads", rankedAds);
+            response.put("totalCount", rankedAds.size());
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("광고 랭킹 조회 실패 - userId: {}", currentUserId, e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("message", "광고 랭킹 조회에 실패했습니다: " + e.getMessage());
+            errorResponse.put("success", false);
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     /**
      * 🔧 광고 수정
      */
@@ -364,21 +408,7 @@ public class AdManagementController {
      */
     private void logAdAction(LogType logType, HttpServletRequest request,
                              Long userId, String targetId, Map<String, Object> payload) {
-        try {
-            String payloadJson = objectMapper.writeValueAsString(payload);
-            AdLogger.track(
-                    log,
-                    logType,
-                    request.getRequestURI(),
-                    request.getMethod(),
-                    userId != null ? userId.toString() : null,
-                    null,
-                    targetId,
-                    payloadJson,
-                    request
-            );
-        } catch (Exception e) {
-            log.warn("광고 액션 로깅 실패 - logType: {}, error: {}", logType, e.getMessage());
-        }
+        adLogger.logAdManagement(log, logType, request,
+                userId != null ? userId.toString() : null, targetId, payload);
     }
 }
@@ -1,15 +1,17 @@
 package com.three.recipingadsservicebe.ad.controller;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.three.recipingadsservicebe.abtest.enums.AbTestScenario;
+import com.three.recipingadsservicebe.ad.cache.AdServeFragmentCache;
+import com.three.recipingadsservicebe.ad.cache.AdServePayloadCache;
 import com.three.recipingadsservicebe.ad.entity.Ad;
 import com.three.recipingadsservicebe.ad.enums.AdPosition;
-import com.three.recipingadsservicebe.ad.mapper.AdMapper;
-import com.three.recipingadsservicebe.ad.dto.AdResponse;
 import com.three.recipingadsservicebe.ad.service.AdRecommendationService;
+import com.three.recipingadsservicebe.log.dto.AdLogPayload;
 import com.three.recipingadsservicebe.log.logger.AdLogger;
 import com.three.recipingadsservicebe.global.security.UserDetailsImpl;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,73 +28,52 @@ import java.util.Map;
 public class AdServingController {
 
     private final AdRecommendationService adRecommendationService;
-    private final ObjectMapper objectMapper;
+    private final AdServePayloadCache adServePayloadCache;
+    private final AdServeFragmentCache adServeFragmentCache;
+    private final AdLogger adLogger;
 
     /**
-     * 사용자 맞춤 광고 서빙
+     * 사용자 맞춤 광고 서빙 (AdServeResponse 조각을 이어 붙인 JSON 본문)
+     * 비로그인/Control 그룹은 캐시된 직렬화 응답을 그대로 반환 (노출 기록은 동일하게 수행)
      */
     @GetMapping("/serve")
-    public ResponseEntity<Map<String, Object>> serveAds(HttpServletRequest request) {
+    public ResponseEntity<?> serveAds(HttpServletRequest request) {
         Long userId = getCurrentUserId();
         log.info("광고 서빙 요청 - userId: {}", userId);
 
         try {
-            // 1. 광고 추천
-            Map<String, List<Ad>> adsByPosition = adRecommendationService.recommendAdsForUser(userId);
-
-            // 2. 응답 변환
-            Map<String, List<AdResponse>> response = new HashMap<>();
-            for (Map.Entry<String, List<Ad>> entry : adsByPosition.entrySet()) {
-                List<AdResponse> adResponses = entry.getValue().stream()
-                        .map(AdMapper::toResponse)
-                        .toList();
-                response.put(entry.getKey(), adResponses);
+            AbTestScenario scenario = adRecommendationService.assignScenario(userId);
+
+            // 1. 비개인화 세그먼트: 캐시 응답 (인덱스 조회/Jackson 직렬화 생략)
+            if (AdRecommendationService.isNonPersonalized(scenario)) {
+                AdServePayloadCache.ServePayload payload = adServePayloadCache.get();
+                adRecommendationService.recordImpressionsSafely(userId, scenario, payload.adsByPosition());
+                logServing(request, userId, payload.adsByPosition(), payload.totalCount());
+
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(payload.body());
             }
 
-            // 3. 총 광고 수 계산
-            int totalAds = response.values().stream().mapToInt(List::size).sum();
-
-            // 4. 최종 응답 구성
-            Map<String, Object> result = new HashMap<>();
-            result.put("ads", response);
-            result.put("totalCount", totalAds);
-            result.put("message", "광고 서빙 완료");
-
-            // 5. 🔧 개선된 로깅 - 간편한 메서드 사용
-            Map<String, Object> servingData = new HashMap<>();
-            servingData.put("totalAds", totalAds);
-            servingData.put("userId", userId);
-            servingData.put("positions", response.keySet());
-            servingData.put("servingSuccess", totalAds > 0);
-
-            // 첫 번째 광고에서 A/B 테스트 정보 추출 (있다면)
-            response.values().stream()
-                    .flatMap(List::stream)
-                    .findFirst()
-                    .ifPresent(adResponse -> {
-                        if (adResponse.getAbTestGroup() != null) {
-                            servingData.put("abGroup", adResponse.getAbTestGroup().name());
-                        }
-                        if (adResponse.getScenarioCode() != null) {
-                            servingData.put("scenario", adResponse.getScenarioCode());
-                        }
-                    });
-
-            AdLogger.logAdServing(log, request, userId != null ? userId.toString() : null, servingData);
-
-            return ResponseEntity.ok(result);
+            // 2. 광고 추천 (Treatment)
+            Map<String, List<Ad>> adsByPosition = adRecommendationService.recommendAdsForUser(userId, scenario);
+            int totalAds = adsByPosition.values().stream().mapToInt(List::size).sum();
+
+            // 3. 응답 구성 (광고별로 미리 렌더링된 JSON 조각을 이어 붙임)
+            byte[] body = adServeFragmentCache.body(adsByPosition);
+
+            logServing(request, userId, adsByPosition, totalAds);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
 
         } catch (Exception e) {
             log.error("광고 서빙 중 오류 발생 - userId: {}", userId, e);
 
             // 에러 로깅
-            Map<String, Object> errorData = new HashMap<>();
-            errorData.put("errorType", e.getClass().getSimpleName());
-            errorData.put("errorMessage", e.getMessage());
-            errorData.put("userId", userId);
-            errorData.put("servingSuccess", false);
-
-            AdLogger.logAdServing(log, request, userId != null ? userId.toString() : null, errorData);
+            adLogger.logAdServing(log, request, userId != null ? userId.toString() : null,
+                    AdLogPayload.Serve.failure(e));
 
             // 에러 응답
             Map<String, Object> errorResponse = new HashMap<>();
@@ -122,13 +103,8 @@ public class AdServingController {
             adRecommendationService.handleAdClick(userId, adId, adPosition);
 
             // 🔧 개선된 클릭 로깅
-            Map<String, Object> clickData = new HashMap<>();
-            clickData.put("adId", adId);
-            clickData.put("position", position);
-            clickData.put("userId", userId);
-            clickData.put("clickSuccess", true);
-
-            AdLogger.logAdClick(log, request, userId != null ? userId.toString() : null, adId.toString(), clickData);
+            adLogger.logAdClick(log, request, userId != null ? userId.toString() : null, adId.toString(),
+                    AdLogPayload.Click.success(adId, position));
 
             Map<String, Object> response = new HashMap<>();
             response.put("message", "클릭 처리 완료");
@@ -140,15 +116,8 @@ public class AdServingController {
             log.error("광고 클릭 처리 중 오류 - userId: {}, adId: {}", userId, adId, e);
 
             // 에러 클릭 로깅
-            Map<String, Object> errorClickData = new HashMap<>();
-            errorClickData.put("adId", adId);
-            errorClickData.put("position", position);
-            errorClickData.put("userId", userId);
-            errorClickData.put("clickSuccess", false);
-            errorClickData.put("errorType", e.getClass().getSimpleName());
-            errorClickData.put("errorMessage", e.getMessage());
-
-            AdLogger.logAdClick(log, request, userId != null ? userId.toString() : null, adId.toString(), errorClickData);
+            adLogger.logAdClick(log, request, userId != null ? userId.toString() : null, adId.toString(),
+                    AdLogPayload.Click.failure(adId, position, e));
 
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("message", "클릭 처리 실패");
@@ -159,6 +128,22 @@ public class AdServingController {
         }
     }
 
+    /**
+     * 🔧 서빙 결과 로깅 (첫 번째 광고에서 A/B 테스트 정보 추출, 큐 적재만 수행)
+     */
+    private void logServing(HttpServletRequest request, Long userId,
+                            Map<String, List<Ad>> adsByPosition, int totalAds) {
+        Ad first = adsByPosition.values().stream()
+                .flatMap(List::stream)
+                .findFirst()
+                .orElse(null);
+        String abGroup = first != null && first.getAbTestGroup() != null ? first.getAbTestGroup().name() : null;
+        String scenario = first != null ? first.getScenarioCode() : null;
+
+        adLogger.logAdServing(log, request, userId != null ? userId.toString() : null,
+                AdLogPayload.Serve.success(totalAds, List.copyOf(adsByPosition.keySet()), abGroup, scenario));
+    }
+
     /**
      * 현재 사용자 ID 추출
      */
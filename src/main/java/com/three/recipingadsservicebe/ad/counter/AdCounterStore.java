@@ -0,0 +1,87 @@
+package com.three.recipingadsservicebe.ad.counter;
+
+import com.three.recipingadsservicebe.ad.repository.AdCounterJdbcRepository;
+import com.three.recipingadsservicebe.ad.repository.AdCounterJdbcRepository.AdCounterDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🔧 광고 노출/클릭 카운터 write-behind 집계
+ * - 서빙 경로는 adId별 LongAdder 증가만 수행 (ads 테이블 쓰기 없음)
+ * - 주기적으로 누적 증분을 단일 배치 UPDATE로 반영
+ */
+@Slf4j
+@Component
+public class AdCounterStore {
+
+    private final AdCounterJdbcRepository adCounterJdbcRepository;
+    private final Map<Long, AdCounters> counters = new ConcurrentHashMap<>();
+    private final Counter failedFlushCounter;
+
+    public AdCounterStore(AdCounterJdbcRepository adCounterJdbcRepository, MeterRegistry meterRegistry) {
+        this.adCounterJdbcRepository = adCounterJdbcRepository;
+        this.failedFlushCounter = Counter.builder("ads_counter_flush_failed_total")
+                .description("Ad counter flushes that failed and were re-queued")
+                .register(meterRegistry);
+    }
+
+    public void recordImpression(Long adId) {
+        counters.computeIfAbsent(adId, id -> new AdCounters()).impressions.increment();
+    }
+
+    public void recordClick(Long adId) {
+        counters.computeIfAbsent(adId, id -> new AdCounters()).clicks.increment();
+    }
+
+    /**
+     * 누적 증분을 DB에 반영 (실패 시 증분을 되돌려 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${ads.counter.flush-interval-ms:5000}")
+    public void flush() {
+        List<AdCounterDelta> deltas = new ArrayList<>();
+        counters.forEach((adId, adCounters) -> {
+            long impressions = adCounters.impressions.sumThenReset();
+            long clicks = adCounters.clicks.sumThenReset();
+            if (impressions != 0 || clicks != 0) {
+                deltas.add(new AdCounterDelta(adId, impressions, clicks));
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            adCounterJdbcRepository.applyDeltas(deltas);
+            log.debug("광고 카운터 반영 완료 - 광고 수: {}", deltas.size());
+        } catch (Exception e) {
+            failedFlushCounter.increment();
+            log.error("광고 카운터 반영 실패, 다음 주기에 재시도 - 광고 수: {}", deltas.size(), e);
+            for (AdCounterDelta delta : deltas) {
+                AdCounters adCounters = counters.computeIfAbsent(delta.adId(), id -> new AdCounters());
+                adCounters.impressions.add(delta.impressions());
+                adCounters.clicks.add(delta.clicks());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class AdCounters {
+        private final LongAdder impressions = new LongAdder();
+        private final LongAdder clicks = new LongAdder();
+    }
+}
@@ -0,0 +1,28 @@
+package com.three.recipingadsservicebe.ad.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.enums.AdType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 광고 서빙 응답 (클라이언트 렌더링/클릭 처리에 필요한 필드만)
+ * 예산/집행액/타겟팅 등 관리자 필드는 AdResponse에서만 제공
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AdServeResponse {
+    private Long id;
+    private String title;
+    private AdType adType;
+    private String imageUrl;
+    private String targetUrl;
+    private AdPosition preferredPosition;
+    private String advertiserName;
+}
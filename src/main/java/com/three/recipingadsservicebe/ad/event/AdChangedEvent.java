@@ -0,0 +1,14 @@
+package com.three.recipingadsservicebe.ad.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 광고 생성/수정/상태변경/삭제 시 발행되는 이벤트
+ * 커밋 이후 서빙 인덱스 등 인메모리 구조를 갱신하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class AdChangedEvent {
+    private final Long adId;
+}
@@ -0,0 +1,318 @@
+package com.three.recipingadsservicebe.ad.index;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import com.three.recipingadsservicebe.ad.event.AdChangedEvent;
+import com.three.recipingadsservicebe.ad.ranking.AdMatchTier;
+import com.three.recipingadsservicebe.ad.repository.AdRepository;
+import com.three.recipingadsservicebe.ad.sampling.AdSamplingPool;
+import com.three.recipingadsservicebe.global.config.SchedulingConfig;
+import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
+import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
+import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🎯 송출 가능 광고 인메모리 인덱스
+ * - 키: position × scenarioCode, 버킷마다 행동태그 비트셋 매처(AdTargetingMatcher)를 함께 구성
+ * - 시나리오/포지션별 무작위 추출 풀을 함께 유지해 랜덤 서빙이 테이블 크기와 무관하게 동작
+ * - 송출 가능 판정(상태/예산/기간)은 재구성 시 한 번만 수행하고,
+ *   가장 가까운 startAt/endAt 시각에 재구성을 예약해 기간 경계를 정확히 반영
+ * - 광고 변경 시 단건 갱신, 주기적 전체 재적재(reconcile)로 정합성 보정
+ * - 조회 경로는 불변 스냅샷만 읽으므로 락이 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdServingIndex {
+
+    /**
+     * 서빙 우선순위: 점수 내림차순 → 최신순 (기존 JPQL ORDER BY와 동일)
+     */
+    static final Comparator<Ad> SERVING_ORDER = Comparator
+            .comparing((Ad ad) -> ad.getScore() != null ? ad.getScore() : 0f, Comparator.reverseOrder())
+            .thenComparing(Ad::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final AdRepository adRepository;
+    private final AtomicInteger activeAdsGauge;
+    // 기간 경계 재구성 전용 (다른 @Scheduled 작업에 밀리지 않도록 공용 taskScheduler와 분리)
+    @Qualifier(SchedulingConfig.AD_SERVING_INDEX_SCHEDULER)
+    private final TaskScheduler taskScheduler;
+
+    private final Map<Long, Ad> servableAds = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long version;
+
+    // 다음 기간 경계 재구성 예약 (쓰기 락 안에서만 변경)
+    private ScheduledFuture<?> boundaryTask;
+    private Instant scheduledBoundary;
+
+    /**
+     * 기동 완료 시 최초 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 🔧 주기적 전체 재적재 (증분 갱신 누락 대비 안전망)
+     */
+    @Scheduled(fixedDelayString = "${ads.index.reconcile-interval-ms:60000}",
+            initialDelayString = "${ads.index.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            List<Ad> ads = adRepository.findServableAds();
+            replaceAll(ads);
+            log.info("서빙 인덱스 재적재 완료 - 광고 수: {}", ads.size());
+        } catch (Exception e) {
+            log.error("서빙 인덱스 재적재 실패 (기존 스냅샷 유지)", e);
+        }
+    }
+
+    /**
+     * 광고 변경 커밋 이후 단건 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAdChanged(AdChangedEvent event) {
+        refresh(event.getAdId());
+    }
+
+    /**
+     * 단건 갱신: 송출 가능하면 반영, 아니면 인덱스에서 제거
+     */
+    public void refresh(Long adId) {
+        try {
+            adRepository.findServableAdById(adId)
+                    .ifPresentOrElse(this::upsert, () -> remove(adId));
+        } catch (Exception e) {
+            log.error("서빙 인덱스 단건 갱신 실패 - adId: {} (다음 reconcile에서 보정)", adId, e);
+        }
+    }
+
+    public synchronized void replaceAll(Collection<Ad> ads) {
+        servableAds.clear();
+        for (Ad ad : ads) {
+            servableAds.put(ad.getId(), ad);
+        }
+        rebuild();
+    }
+
+    public synchronized void upsert(Ad ad) {
+        servableAds.put(ad.getId(), ad);
+        rebuild();
+        log.debug("서빙 인덱스 반영 - adId: {}", ad.getId());
+    }
+
+    public synchronized void remove(Long adId) {
+        if (servableAds.remove(adId) != null) {
+            rebuild();
+            log.debug("서빙 인덱스 제거 - adId: {}", adId);
+        }
+    }
+
+    /**
+     * 행동태그 타겟팅 후보 (기존 완전/부분 매치 JPQL 조회 대체)
+     * 시나리오 버킷의 비트셋 매처로 매치 등급을 계산하고 상위 limit건만 반환
+     * 완전 매치가 하나라도 있으면 완전 매치만, 없으면 부분 매치를 등급 → 점수순으로 반환
+     */
+    public TargetedMatch findTargetedMatches(AdPosition position, String scenarioCode,
+                                             DemographicSegment demographic,
+                                             EngagementLevel engagement,
+                                             CookingStylePreference cookingStyle,
+                                             int limit) {
+        return snapshot.targetingMatchers
+                .getOrDefault(new ScenarioKey(position, scenarioCode), AdTargetingMatcher.EMPTY)
+                .match(demographic, engagement, cookingStyle, limit);
+    }
+
+    /**
+     * 시나리오 코드별 송출 가능 광고 (기존 시나리오별 JPQL 조회 대체)
+     */
+    public List<Ad> findByScenario(String scenarioCode, AdPosition position) {
+        return snapshot.scenarioAds.getOrDefault(new ScenarioKey(position, scenarioCode), List.of());
+    }
+
+    /**
+     * 포지션별 송출 가능 광고 전체 (시나리오 무관)
+     */
+    public List<Ad> findByPosition(AdPosition position) {
+        return samplingPoolForPosition(position).ads();
+    }
+
+    /**
+     * 시나리오 코드별 무작위 추출 풀 (CONTROL 랜덤 서빙용)
+     */
+    public AdSamplingPool samplingPoolForScenario(String scenarioCode, AdPosition position) {
+        return snapshot.scenarioPools.getOrDefault(new ScenarioKey(position, scenarioCode), AdSamplingPool.EMPTY);
+    }
+
+    /**
+     * 포지션별 무작위 추출 풀 (시나리오 무관, 랜덤 Fallback용)
+     */
+    public AdSamplingPool samplingPoolForPosition(AdPosition position) {
+        return snapshot.positionPools.getOrDefault(position, AdSamplingPool.EMPTY);
+    }
+
+    public int size() {
+        return servableAds.size();
+    }
+
+    /**
+     * 스냅샷 버전 (재구성마다 증가, 파생 캐시의 무효화 판단용)
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 송출 가능 여부 (상태/예산/기간) - 재구성 시점에만 평가
+     */
+    public static boolean isServableAt(Ad ad, OffsetDateTime now) {
+        if (ad.getStatus() != AdStatus.ACTIVE) return false;
+        if (ad.getBudget() != null && ad.getSpentAmount() != null
+                && ad.getSpentAmount() >= ad.getBudget()) return false;
+        if (ad.getStartAt() != null && now.isBefore(ad.getStartAt())) return false;
+        if (ad.getEndAt() != null && now.isAfter(ad.getEndAt())) return false;
+        return true;
+    }
+
+    /**
+     * 기간 경계 도달 시 재구성 (시작 광고 편입, 종료 광고 제외)
+     */
+    private synchronized void rebuildAtBoundary() {
+        scheduledBoundary = null;
+        boundaryTask = null;
+        rebuild();
+        log.debug("기간 경계 도달로 서빙 인덱스 재구성 - 송출 중 광고 수: {}", activeAdsGauge.get());
+    }
+
+    /**
+     * 가장 가까운 경계 시각에 재구성 예약 (이미 같은 시각이 예약돼 있으면 유지)
+     */
+    private void scheduleNextBoundary(Instant nextBoundary) {
+        if (nextBoundary == null ? scheduledBoundary == null : nextBoundary.equals(scheduledBoundary)) {
+            return;
+        }
+        if (boundaryTask != null) {
+            boundaryTask.cancel(false);
+        }
+        scheduledBoundary = nextBoundary;
+        boundaryTask = nextBoundary != null ? taskScheduler.schedule(this::rebuildAtBoundary, nextBoundary) : null;
+    }
+
+    /**
+     * 불변 스냅샷 재구성 (쓰기 락 안에서만 호출)
+     */
+    private void rebuild() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Instant nextBoundary = null;
+        int servingCount = 0;
+
+        Map<ScenarioKey, List<Ad>> scenarioAds = new HashMap<>();
+        Map<AdPosition, List<Ad>> positionPools = new EnumMap<>(AdPosition.class);
+
+        Iterator<Ad> iterator = servableAds.values().iterator();
+        while (iterator.hasNext()) {
+            Ad ad = iterator.next();
+
+            // 종료된 광고는 다시 송출될 일이 없으므로 제거 (수정 시 AdChangedEvent로 재편입)
+            if (ad.getEndAt() != null && now.isAfter(ad.getEndAt())) {
+                iterator.remove();
+                continue;
+            }
+            // 시작 전 광고는 보관만 하고 시작 시각에 재구성 예약
+            if (ad.getStartAt() != null && now.isBefore(ad.getStartAt())) {
+                nextBoundary = earliest(nextBoundary, ad.getStartAt().toInstant());
+                continue;
+            }
+            if (!isServableAt(ad, now)) {
+                continue;
+            }
+            if (ad.getEndAt() != null) {
+                // endAt 시각까지는 송출 가능하므로 직후에 제외
+                nextBoundary = earliest(nextBoundary, ad.getEndAt().toInstant().plusMillis(1));
+            }
+            servingCount++;
+
+            if (ad.getPreferredPosition() == null) {
+                continue;
+            }
+            positionPools.computeIfAbsent(ad.getPreferredPosition(), k -> new ArrayList<>()).add(ad);
+
+            if (ad.getScenarioCode() == null) {
+                continue;
+            }
+            scenarioAds.computeIfAbsent(new ScenarioKey(ad.getPreferredPosition(), ad.getScenarioCode()),
+                    k -> new ArrayList<>()).add(ad);
+        }
+
+        scenarioAds.replaceAll((k, v) -> sortedCopy(v));
+
+        // 무작위 추출 풀 (가중치 alias table은 풀 생성 시 한 번만 구성)
+        Map<ScenarioKey, AdSamplingPool> scenarioPools = new HashMap<>();
+        scenarioAds.forEach((key, ads) -> scenarioPools.put(key, AdSamplingPool.of(ads)));
+        // 타겟팅 비트셋 (posting 비트셋도 재구성 시 한 번만 구성)
+        Map<ScenarioKey, AdTargetingMatcher> targetingMatchers = new HashMap<>();
+        scenarioAds.forEach((key, ads) -> targetingMatchers.put(key, new AdTargetingMatcher(ads)));
+        Map<AdPosition, AdSamplingPool> positionSamplingPools = new EnumMap<>(AdPosition.class);
+        positionPools.forEach((position, ads) -> positionSamplingPools.put(position, AdSamplingPool.of(sortedCopy(ads))));
+
+        this.snapshot = new Snapshot(Map.copyOf(scenarioAds), Map.copyOf(scenarioPools),
+                Map.copyOf(positionSamplingPools), Map.copyOf(targetingMatchers), now);
+        this.version++;
+        activeAdsGauge.set(servingCount);
+        scheduleNextBoundary(nextBoundary);
+    }
+
+    private static Instant earliest(Instant current, Instant candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static List<Ad> sortedCopy(List<Ad> ads) {
+        ads.sort(SERVING_ORDER);
+        return List.copyOf(ads);
+    }
+
+    private record ScenarioKey(AdPosition position, String scenarioCode) {
+    }
+
+    /**
+     * 타겟팅 후보와 그중 가장 높은 매치 등급 (후보가 없으면 등급 null)
+     */
+    public record TargetedMatch(List<Ad> ads, AdMatchTier bestTier) {
+        static final TargetedMatch NONE = new TargetedMatch(List.of(), null);
+    }
+
+    private record Snapshot(Map<ScenarioKey, List<Ad>> scenarioAds,
+                            Map<ScenarioKey, AdSamplingPool> scenarioPools,
+                            Map<AdPosition, AdSamplingPool> positionPools,
+                            Map<ScenarioKey, AdTargetingMatcher> targetingMatchers,
+                            OffsetDateTime builtAt) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of(), OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,134 @@
+package com.three.recipingadsservicebe.ad.index;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.ranking.AdMatchTier;
+import com.three.recipingadsservicebe.ad.ranking.AdTopKSelector;
+import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
+import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
+import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 🎯 시나리오 버킷 단위 비트셋 타겟팅 매처
+ * - 광고를 서빙 순위(점수 → CTR → 최신순)로 고정 배치하고 비트 i = i번째 광고
+ * - 차원(인구통계/참여도/요리스타일)마다 값별 posting 비트셋과 세 차원 모두 미지정인 미타겟팅 비트셋을 보관
+ * - 매치 후보는 워드 단위 AND/OR로 계산하고, 낮은 비트부터 읽으면 곧 순위순이라 정렬이 없음
+ * - 재구성 시 생성되는 불변 객체 (스냅샷과 함께 교체)
+ */
+final class AdTargetingMatcher {
+
+    private static final AdMatchTier[] PARTIAL_TIERS = {
+            AdMatchTier.COOKING_STYLE, AdMatchTier.ENGAGEMENT, AdMatchTier.DEMOGRAPHIC, AdMatchTier.UNTARGETED
+    };
+
+    static final AdTargetingMatcher EMPTY = new AdTargetingMatcher(List.of());
+
+    private final Ad[] ads;
+    private final int words;
+    private final long[] none;
+
+    private final long[][] demographicPostings;
+    private final long[][] engagementPostings;
+    private final long[][] cookingStylePostings;
+    private final long[] untargeted;
+
+    AdTargetingMatcher(Collection<Ad> candidates) {
+        this.ads = candidates.toArray(new Ad[0]);
+        // 안정 정렬이므로 순위 동점은 입력 순서 유지 (selectTopK와 동일한 결과)
+        Arrays.sort(ads, AdTopKSelector.RANKING_ORDER);
+        this.words = (ads.length + 63) >>> 6;
+        this.none = new long[words];
+
+        this.demographicPostings = new long[DemographicSegment.values().length][words];
+        this.engagementPostings = new long[EngagementLevel.values().length][words];
+        this.cookingStylePostings = new long[CookingStylePreference.values().length][words];
+        this.untargeted = new long[words];
+        // 차원별 미지정 비트셋은 미타겟팅(세 차원 모두 미지정) 계산에만 쓰므로 생성 시에만 보관
+        long[] demographicWildcard = new long[words];
+        long[] engagementWildcard = new long[words];
+        long[] cookingStyleWildcard = new long[words];
+
+        for (int i = 0; i < ads.length; i++) {
+            Ad ad = ads[i];
+            set(ad.getTargetDemographicSegment() != null
+                    ? demographicPostings[ad.getTargetDemographicSegment().ordinal()] : demographicWildcard, i);
+            set(ad.getTargetEngagementLevel() != null
+                    ? engagementPostings[ad.getTargetEngagementLevel().ordinal()] : engagementWildcard, i);
+            set(ad.getTargetCookingStyle() != null
+                    ? cookingStylePostings[ad.getTargetCookingStyle().ordinal()] : cookingStyleWildcard, i);
+        }
+        for (int w = 0; w < words; w++) {
+            untargeted[w] = demographicWildcard[w] & engagementWildcard[w] & cookingStyleWildcard[w];
+        }
+    }
+
+    /**
+     * 행동태그 매치 등급순 상위 limit건
+     * 완전 매치가 있으면 완전 매치만, 없으면 요리스타일 → 참여도 → 인구통계 → 미타겟팅 순으로 채움
+     */
+    AdServingIndex.TargetedMatch match(DemographicSegment demographic,
+                                       EngagementLevel engagement,
+                                       CookingStylePreference cookingStyle,
+                                       int limit) {
+        if (limit <= 0 || ads.length == 0) {
+            return AdServingIndex.TargetedMatch.NONE;
+        }
+        long[] demographicMatched = demographic != null ? demographicPostings[demographic.ordinal()] : none;
+        long[] engagementMatched = engagement != null ? engagementPostings[engagement.ordinal()] : none;
+        long[] cookingMatched = cookingStyle != null ? cookingStylePostings[cookingStyle.ordinal()] : none;
+
+        List<Ad> selected = new ArrayList<>(Math.min(limit, ads.length));
+        collect(selected, limit, w -> cookingMatched[w] & engagementMatched[w] & demographicMatched[w]);
+        if (!selected.isEmpty()) {
+            return new AdServingIndex.TargetedMatch(List.copyOf(selected), AdMatchTier.PERFECT);
+        }
+
+        // 완전 매치가 없으므로 각 등급 비트셋은 상위 등급과의 차집합만 빼면 서로 겹치지 않음
+        AdMatchTier bestTier = null;
+        for (AdMatchTier tier : PARTIAL_TIERS) {
+            int before = selected.size();
+            boolean full = switch (tier) {
+                case COOKING_STYLE -> collect(selected, limit, w -> cookingMatched[w]);
+                case ENGAGEMENT -> collect(selected, limit, w -> engagementMatched[w] & ~cookingMatched[w]);
+                case DEMOGRAPHIC -> collect(selected, limit,
+                        w -> demographicMatched[w] & ~engagementMatched[w] & ~cookingMatched[w]);
+                default -> collect(selected, limit, w -> untargeted[w]);
+            };
+            if (bestTier == null && selected.size() > before) {
+                bestTier = tier;
+            }
+            if (full) {
+                break;
+            }
+        }
+        return bestTier != null
+                ? new AdServingIndex.TargetedMatch(List.copyOf(selected), bestTier)
+                : AdServingIndex.TargetedMatch.NONE;
+    }
+
+    /**
+     * 워드별 마스크의 set bit 순서(= 순위순)로 광고를 담고, limit에 도달하면 true
+     */
+    private boolean collect(List<Ad> out, int limit, IntToLongFunction wordMask) {
+        for (int w = 0; w < words; w++) {
+            long bits = wordMask.applyAsLong(w);
+            while (bits != 0) {
+                out.add(ads[(w << 6) + Long.numberOfTrailingZeros(bits)]);
+                if (out.size() >= limit) {
+                    return true;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return false;
+    }
+
+    private static void set(long[] bitset, int index) {
+        bitset[index >>> 6] |= 1L << index;
+    }
+}
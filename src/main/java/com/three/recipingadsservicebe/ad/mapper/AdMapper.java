@@ -1,6 +1,7 @@
 package com.three.recipingadsservicebe.ad.mapper;
 
 import com.three.recipingadsservicebe.ad.dto.AdResponse;
+import com.three.recipingadsservicebe.ad.dto.AdServeResponse;
 import com.three.recipingadsservicebe.ad.entity.Ad;
 
 public class AdMapper {
@@ -33,4 +34,18 @@ public class AdMapper {
                 .createdAt(ad.getCreatedAt())
                 .build();
     }
+
+    public static AdServeResponse toServeResponse(Ad ad) {
+        if (ad == null) return null;
+
+        return AdServeResponse.builder()
+                .id(ad.getId())
+                .title(ad.getTitle())
+                .adType(ad.getAdType())
+                .imageUrl(ad.getImageUrl())
+                .targetUrl(ad.getTargetUrl())
+                .preferredPosition(ad.getPreferredPosition())
+                .advertiserName(ad.getAdvertiser() != null ? ad.getAdvertiser().getName() : null)
+                .build();
+    }
 }
@@ -0,0 +1,41 @@
+package com.three.recipingadsservicebe.ad.ranking;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
+import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
+import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+
+/**
+ * 🎯 행동태그 매치 등급 (선언 순서 = 서빙 우선순위)
+ * 완전 매치 → 요리스타일 → 참여도 → 인구통계 → 미타겟팅
+ */
+public enum AdMatchTier {
+    PERFECT,
+    COOKING_STYLE,
+    ENGAGEMENT,
+    DEMOGRAPHIC,
+    UNTARGETED;
+
+    /**
+     * 광고의 매치 등급 (어느 등급에도 해당하지 않으면 null)
+     * 완전 매치는 세 차원이 모두 지정되고 모두 일치하는 광고만 해당
+     */
+    public static AdMatchTier of(Ad ad, DemographicSegment demographic,
+                                 EngagementLevel engagement,
+                                 CookingStylePreference cookingStyle) {
+        DemographicSegment adDemographic = ad.getTargetDemographicSegment();
+        EngagementLevel adEngagement = ad.getTargetEngagementLevel();
+        CookingStylePreference adCookingStyle = ad.getTargetCookingStyle();
+
+        boolean cookingMatched = adCookingStyle != null && adCookingStyle == cookingStyle;
+        boolean engagementMatched = adEngagement != null && adEngagement == engagement;
+        boolean demographicMatched = adDemographic != null && adDemographic == demographic;
+
+        if (cookingMatched && engagementMatched && demographicMatched) return PERFECT;
+        if (cookingMatched) return COOKING_STYLE;
+        if (engagementMatched) return ENGAGEMENT;
+        if (demographicMatched) return DEMOGRAPHIC;
+        if (adCookingStyle == null && adEngagement == null && adDemographic == null) return UNTARGETED;
+        return null;
+    }
+}
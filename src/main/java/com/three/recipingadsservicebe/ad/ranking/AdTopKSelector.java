@@ -0,0 +1,131 @@
+package com.three.recipingadsservicebe.ad.ranking;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * 🔧 광고 상위 K건 선택기 (전체 정렬 없이 O(n·k), 후보당 정렬 키 1회 계산)
+ * - 순위: (등급 오름차순 →) 점수 내림차순 → CTR 내림차순 → 최신순
+ * - 정렬 키(score, ctr, createdAt)를 원시 배열에 보관해 비교 시 객체 생성/재계산이 없음
+ * - 동점이면 먼저 들어온 후보가 앞섬 (안정 정렬 + limit과 동일한 결과)
+ * - 타겟팅 서빙(등급 + k=3)과 관리자 랭킹(k=수십~수백) 모두에서 사용
+ */
+public final class AdTopKSelector {
+
+    private static final int EXCLUDED = -1;
+
+    /**
+     * selectTopK와 동일한 순위 (미리 정렬해 두고 앞에서부터 읽는 용도)
+     */
+    public static final Comparator<Ad> RANKING_ORDER = Comparator
+            .comparing(AdTopKSelector::scoreOf, Comparator.reverseOrder())
+            .thenComparing(Ad::calculateCTR, Comparator.reverseOrder())
+            .thenComparing(AdTopKSelector::createdAtOf, Comparator.reverseOrder());
+
+    private AdTopKSelector() {
+    }
+
+    public static List<Ad> selectTopK(Collection<Ad> candidates, int k) {
+        return selectTopK(candidates, k, ad -> true);
+    }
+
+    /**
+     * filter를 통과한 후보 중 상위 k건 (순위순)
+     */
+    public static List<Ad> selectTopK(Collection<Ad> candidates, int k, Predicate<? super Ad> filter) {
+        return selectTopKByTier(candidates, k, ad -> filter.test(ad) ? 0 : EXCLUDED);
+    }
+
+    /**
+     * 등급 우선 상위 k건: 등급 오름차순 → 점수 → CTR → 최신순
+     * tierOf가 음수를 반환한 후보는 제외 (등급 계산과 필터링을 한 번에 수행)
+     */
+    public static List<Ad> selectTopKByTier(Collection<Ad> candidates, int k, ToIntFunction<? super Ad> tierOf) {
+        if (k <= 0 || candidates.isEmpty()) {
+            return List.of();
+        }
+
+        int capacity = Math.min(k, candidates.size());
+        Ad[] ads = new Ad[capacity];
+        int[] tiers = new int[capacity];
+        float[] scores = new float[capacity];
+        float[] ctrs = new float[capacity];
+        long[] createdAts = new long[capacity];
+        int size = 0;
+
+        for (Ad ad : candidates) {
+            int tier = tierOf.applyAsInt(ad);
+            if (tier < 0) {
+                continue;
+            }
+            // 가득 찼고 최하위보다 낮은 등급이면 점수 계산 없이 탈락
+            int last = capacity - 1;
+            if (size == capacity && tier > tiers[last]) {
+                continue;
+            }
+            float score = scoreOf(ad);
+            float ctr = ad.calculateCTR();
+            long createdAt = createdAtOf(ad);
+
+            // 가득 찼고 현재 최하위보다 낫지 않으면 즉시 탈락 (대부분의 후보가 여기서 끝남)
+            if (size == capacity
+                    && compare(tier, score, ctr, createdAt, tiers[last], scores[last], ctrs[last], createdAts[last]) >= 0) {
+                continue;
+            }
+
+            int pos = size < capacity ? size++ : last;
+            while (pos > 0 && compare(tier, score, ctr, createdAt,
+                    tiers[pos - 1], scores[pos - 1], ctrs[pos - 1], createdAts[pos - 1]) < 0) {
+                ads[pos] = ads[pos - 1];
+                tiers[pos] = tiers[pos - 1];
+                scores[pos] = scores[pos - 1];
+                ctrs[pos] = ctrs[pos - 1];
+                createdAts[pos] = createdAts[pos - 1];
+                pos--;
+            }
+            ads[pos] = ad;
+            tiers[pos] = tier;
+            scores[pos] = score;
+            ctrs[pos] = ctr;
+            createdAts[pos] = createdAt;
+        }
+
+        return size == capacity ? Arrays.asList(ads) : Arrays.asList(Arrays.copyOf(ads, size));
+    }
+
+    /**
+     * 음수면 첫 번째 후보가 더 높은 순위
+     */
+    private static int compare(int tier1, float score1, float ctr1, long createdAt1,
+                               int tier2, float score2, float ctr2, long createdAt2) {
+        int tierCompare = Integer.compare(tier1, tier2);
+        if (tierCompare != 0) return tierCompare;
+
+        int scoreCompare = Float.compare(score2, score1);
+        if (scoreCompare != 0) return scoreCompare;
+
+        int ctrCompare = Float.compare(ctr2, ctr1);
+        if (ctrCompare != 0) return ctrCompare;
+
+        return Long.compare(createdAt2, createdAt1);
+    }
+
+    private static float scoreOf(Ad ad) {
+        return ad.getScore() != null ? ad.getScore() : 0f;
+    }
+
+    /**
+     * 생성 시각(epoch nanos), 없으면 가장 오래된 것으로 취급
+     */
+    private static long createdAtOf(Ad ad) {
+        OffsetDateTime createdAt = ad.getCreatedAt();
+        return createdAt != null ? createdAt.toEpochSecond() * 1_000_000_000L + createdAt.getNano() : Long.MIN_VALUE;
+    }
+}
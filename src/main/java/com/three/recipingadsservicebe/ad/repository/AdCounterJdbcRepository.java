@@ -0,0 +1,45 @@
+package com.three.recipingadsservicebe.ad.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 광고 노출/클릭 카운터 증분 반영 전용 저장소
+ * 엔티티 dirty checking 대신 컬럼 단위 원자적 증가로 행 전체 UPDATE와 유실 갱신을 방지
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdCounterJdbcRepository {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE ads
+            SET impression_count = COALESCE(impression_count, 0) + ?,
+                click_count = COALESCE(click_count, 0) + ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 증분 UPDATE는 멱등이 아니므로 배치 전체를 한 트랜잭션으로 반영
+     * (일부만 커밋된 뒤 호출 측이 전체 증분을 재시도하면 이중 집계됨)
+     */
+    @Transactional
+    public void applyDeltas(List<AdCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.impressions());
+            ps.setLong(2, delta.clicks());
+            ps.setLong(3, delta.adId());
+        });
+    }
+
+    public record AdCounterDelta(Long adId, long impressions, long clicks) {
+    }
+}
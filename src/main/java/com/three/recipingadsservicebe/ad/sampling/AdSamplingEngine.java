@@ -0,0 +1,38 @@
+package com.three.recipingadsservicebe.ad.sampling;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 🎲 CONTROL 그룹 랜덤 서빙용 추출 엔진
+ * 추출 방식은 ads.serving.control-sampling-mode (UNIFORM | SCORE_WEIGHTED)
+ */
+@Slf4j
+@Component
+public class AdSamplingEngine {
+
+    private final SamplingMode mode;
+
+    public AdSamplingEngine(@Value("${ads.serving.control-sampling-mode:UNIFORM}") SamplingMode mode) {
+        this.mode = mode;
+        log.info("CONTROL 광고 추출 방식 - mode: {}", mode);
+    }
+
+    public List<Ad> sample(AdSamplingPool pool, int k) {
+        return sample(pool, k, ad -> true);
+    }
+
+    public List<Ad> sample(AdSamplingPool pool, int k, Predicate<? super Ad> filter) {
+        return pool.sample(k, mode, filter, ThreadLocalRandom.current());
+    }
+
+    public SamplingMode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,191 @@
+package com.three.recipingadsservicebe.ad.sampling;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * 🎲 무작위 추출용 불변 광고 풀
+ * - 풀 생성 시 점수 가중치 alias table(Vose)을 한 번 구성 → 가중 1회 추출 O(1)
+ * - k건 비복원 추출은 중복/필터 탈락을 기각하며 재추출 (풀 크기와 무관하게 O(k))
+ * - 작은 풀, 또는 탐침 한도 안에 k건을 채우지 못한 경우(가중치 편중, 필터 탈락 다수, 가중치 0 광고)는
+ *   전체 필터 후 부분 셔플(균등) 또는 Efraimidis-Spirakis 키(가중)로 정확히 추출
+ */
+public final class AdSamplingPool {
+
+    public static final AdSamplingPool EMPTY = new AdSamplingPool(List.of());
+
+    // 풀이 k × 이 값 이하면 전체 필터 경로, 초과하면 임의 탐침
+    private static final int SMALL_POOL_FACTOR = 4;
+    private static final int MAX_PROBES_PER_DRAW = 8;
+
+    private final List<Ad> ads;
+    private final double[] weights;
+    private final AliasTable aliasTable;
+
+    private AdSamplingPool(List<Ad> ads) {
+        this.ads = ads;
+        this.weights = new double[ads.size()];
+        for (int i = 0; i < ads.size(); i++) {
+            Float score = ads.get(i).getScore();
+            weights[i] = score != null && score > 0 ? score : 0d;
+        }
+        this.aliasTable = AliasTable.build(weights);
+    }
+
+    public static AdSamplingPool of(List<Ad> ads) {
+        return ads.isEmpty() ? EMPTY : new AdSamplingPool(List.copyOf(ads));
+    }
+
+    public List<Ad> ads() {
+        return ads;
+    }
+
+    public boolean isEmpty() {
+        return ads.isEmpty();
+    }
+
+    /**
+     * filter를 통과한 광고 k건 비복원 추출 (추출 순서대로 반환)
+     * 점수 가중 모드라도 모든 점수가 0 이하이면 균등 추출
+     */
+    public List<Ad> sample(int k, SamplingMode mode, Predicate<? super Ad> filter, RandomGenerator random) {
+        if (ads.isEmpty() || k <= 0) {
+            return List.of();
+        }
+        boolean weighted = mode == SamplingMode.SCORE_WEIGHTED && aliasTable != null;
+
+        if (ads.size() <= k * SMALL_POOL_FACTOR) {
+            return sampleExact(k, weighted, filter, random);
+        }
+
+        List<Ad> sampled = new ArrayList<>(k);
+        for (int attempt = 0; attempt < k * MAX_PROBES_PER_DRAW && sampled.size() < k; attempt++) {
+            int index = weighted ? aliasTable.next(random) : random.nextInt(ads.size());
+            Ad ad = ads.get(index);
+            if (!sampled.contains(ad) && filter.test(ad)) {
+                sampled.add(ad);
+            }
+        }
+        // 탐침만으로 부족하면 전체 필터 경로로 다시 추출 (조용히 k건 미만을 반환하지 않도록)
+        return sampled.size() < k ? sampleExact(k, weighted, filter, random) : sampled;
+    }
+
+    private List<Ad> sampleExact(int k, boolean weighted, Predicate<? super Ad> filter, RandomGenerator random) {
+        return weighted ? sampleExactWeighted(k, filter, random) : sampleExactUniform(k, filter, random);
+    }
+
+    private List<Ad> sampleExactUniform(int k, Predicate<? super Ad> filter, RandomGenerator random) {
+        List<Ad> eligible = new ArrayList<>(ads.size());
+        for (Ad ad : ads) {
+            if (filter.test(ad)) {
+                eligible.add(ad);
+            }
+        }
+        int limit = Math.min(k, eligible.size());
+        for (int i = 0; i < limit; i++) {
+            Collections.swap(eligible, i, i + random.nextInt(eligible.size() - i));
+        }
+        return eligible.subList(0, limit);
+    }
+
+    /**
+     * 가중 비복원 추출: key = u^(1/w) 상위 k건 (가중치 0은 가장 뒤)
+     */
+    private List<Ad> sampleExactWeighted(int k, Predicate<? super Ad> filter, RandomGenerator random) {
+        List<Keyed> keyed = new ArrayList<>(ads.size());
+        for (int i = 0; i < ads.size(); i++) {
+            Ad ad = ads.get(i);
+            if (filter.test(ad)) {
+                double key = weights[i] > 0 ? Math.log(random.nextDouble()) / weights[i] : Double.NEGATIVE_INFINITY;
+                keyed.add(new Keyed(ad, key));
+            }
+        }
+        keyed.sort(Comparator.comparingDouble(Keyed::key).reversed());
+
+        int limit = Math.min(k, keyed.size());
+        List<Ad> sampled = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            sampled.add(keyed.get(i).ad());
+        }
+        return sampled;
+    }
+
+    private record Keyed(Ad ad, double key) {
+    }
+
+    /**
+     * Vose alias method (구성 O(n), 추출 O(1))
+     */
+    private static final class AliasTable {
+
+        private final double[] probability;
+        private final int[] alias;
+
+        private AliasTable(double[] probability, int[] alias) {
+            this.probability = probability;
+            this.alias = alias;
+        }
+
+        /**
+         * 가중치 합이 0이면 null (균등 추출로 대체)
+         */
+        static AliasTable build(double[] weights) {
+            int n = weights.length;
+            double total = 0d;
+            for (double weight : weights) {
+                total += weight;
+            }
+            if (n == 0 || total <= 0d) {
+                return null;
+            }
+
+            double[] scaled = new double[n];
+            int[] small = new int[n];
+            int[] large = new int[n];
+            int smallSize = 0;
+            int largeSize = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = weights[i] * n / total;
+                if (scaled[i] < 1d) {
+                    small[smallSize++] = i;
+                } else {
+                    large[largeSize++] = i;
+                }
+            }
+
+            double[] probability = new double[n];
+            int[] alias = new int[n];
+            while (smallSize > 0 && largeSize > 0) {
+                int less = small[--smallSize];
+                int more = large[--largeSize];
+                probability[less] = scaled[less];
+                alias[less] = more;
+                scaled[more] = (scaled[more] + scaled[less]) - 1d;
+                if (scaled[more] < 1d) {
+                    small[smallSize++] = more;
+                } else {
+                    large[largeSize++] = more;
+                }
+            }
+            // 부동소수 오차로 남은 항목은 확률 1
+            while (largeSize > 0) {
+                probability[large[--largeSize]] = 1d;
+            }
+            while (smallSize > 0) {
+                probability[small[--smallSize]] = 1d;
+            }
+            return new AliasTable(probability, alias);
+        }
+
+        int next(RandomGenerator random) {
+            int column = random.nextInt(probability.length);
+            return random.nextDouble() < probability[column] ? column : alias[column];
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.three.recipingadsservicebe.ad.sampling;
+
+public enum SamplingMode {
+    UNIFORM("균등 추출"),
+    SCORE_WEIGHTED("광고 점수 비례 추출");
+
+    private final String description;
+
+    SamplingMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
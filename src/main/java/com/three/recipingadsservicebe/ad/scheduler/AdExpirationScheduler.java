@@ -0,0 +1,33 @@
+package com.three.recipingadsservicebe.ad.scheduler;
+
+import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import com.three.recipingadsservicebe.ad.repository.AdRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 🔧 종료 광고 일괄 만료 처리
+ * 서빙 인덱스는 endAt 경계에서 이미 제외하므로, 여기서는 DB 상태만 EXPIRED로 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdExpirationScheduler {
+
+    private final AdRepository adRepository;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${ads.expiration.interval-ms:300000}",
+            initialDelayString = "${ads.expiration.interval-ms:300000}")
+    public void expireEndedAds() {
+        int expired = adRepository.expireEndedAds(AdStatus.ACTIVE, AdStatus.EXPIRED, OffsetDateTime.now());
+        if (expired > 0) {
+            log.info("종료 광고 만료 처리 완료 - 건수: {}", expired);
+        }
+    }
+}
@@ -5,11 +5,13 @@ import com.three.recipingadsservicebe.ad.dto.AdStatusUpdateRequest;
 import com.three.recipingadsservicebe.ad.dto.AdUpdateRequest;
 import com.three.recipingadsservicebe.ad.entity.Ad;
 import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import com.three.recipingadsservicebe.ad.event.AdChangedEvent;
 import com.three.recipingadsservicebe.ad.repository.AdRepository;
 import com.three.recipingadsservicebe.advertiser.entity.Advertiser;
 import com.three.recipingadsservicebe.advertiser.repository.AdvertiserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class AdCommandService {
 
     private final AdRepository adRepository;
     private final AdvertiserRepository advertiserRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long createAd(AdCreateRequest request) {
@@ -58,6 +61,7 @@ public class AdCommandService {
                 .build();
 
         Ad savedAd = adRepository.save(ad);
+        eventPublisher.publishEvent(new AdChangedEvent(savedAd.getId()));
         log.info("광고 생성 완료 - adId: {}, title: {}", savedAd.getId(), savedAd.getTitle());
 
         return savedAd.getId();
@@ -84,6 +88,7 @@ public class AdCommandService {
         }
 
         ad.updateFrom(request);
+        eventPublisher.publishEvent(new AdChangedEvent(adId));
         log.info("광고 수정 완료 - adId: {}", adId);
     }
 
@@ -107,6 +112,7 @@ public class AdCommandService {
         // 상태 변경
         AdStatus previousStatus = ad.getStatus();
         ad.changeStatus(request.getStatus());
+        eventPublisher.publishEvent(new AdChangedEvent(adId));
 
         log.info("광고 상태 변경 완료 - adId: {}, {} -> {}",
                 adId, previousStatus, request.getStatus());
@@ -119,6 +125,7 @@ public class AdCommandService {
                 .orElseThrow(() -> new IllegalArgumentException("광고를 찾을 수 없습니다."));
 
         ad.softDelete();
+        eventPublisher.publishEvent(new AdChangedEvent(adId));
         log.info("광고 삭제 완료 - adId: {}", adId);
     }
 
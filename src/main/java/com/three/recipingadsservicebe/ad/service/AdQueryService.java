@@ -1,7 +1,10 @@
 package com.three.recipingadsservicebe.ad.service;
 
 import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
 import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import com.three.recipingadsservicebe.ad.index.AdServingIndex;
+import com.three.recipingadsservicebe.ad.ranking.AdTopKSelector;
 import com.three.recipingadsservicebe.ad.repository.AdRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +13,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+
 
 @Slf4j(topic = "AdQueryService")
 @RequiredArgsConstructor
@@ -79,4 +85,16 @@ public class AdQueryService {
                 AdStatus.ACTIVE, advertiserId, pageable);
     }
 
+    /**
+     * 송출 가능 광고 랭킹 조회 (서빙과 동일한 순위: 점수 → CTR → 최신순)
+     * position이 없으면 전체 포지션 대상, 시작 전 광고는 제외
+     */
+    public List<Ad> getTopRankedAds(AdPosition position, int limit) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Ad> servableAds = adRepository.findServableAds();
+        return AdTopKSelector.selectTopK(servableAds, limit,
+                ad -> (position == null || ad.getPreferredPosition() == position)
+                        && AdServingIndex.isServableAt(ad, now));
+    }
+
 }
@@ -1,66 +1,104 @@
 package com.three.recipingadsservicebe.ad.service;
 import com.three.recipingadsservicebe.abtest.enums.AbTestScenario;
 import com.three.recipingadsservicebe.abtest.service.AbTestService;
+import com.three.recipingadsservicebe.ad.counter.AdCounterStore;
 import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
 import com.three.recipingadsservicebe.ad.enums.AdPosition;
-import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import com.three.recipingadsservicebe.ad.index.AdServingIndex;
+import com.three.recipingadsservicebe.ad.ranking.AdTopKSelector;
 import com.three.recipingadsservicebe.ad.repository.AdRepository;
+import com.three.recipingadsservicebe.ad.sampling.AdSamplingEngine;
 import com.three.recipingadsservicebe.targeting.dto.UserProfileDto;
 import com.three.recipingadsservicebe.targeting.service.UserProfileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.OffsetDateTime;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdRecommendationService {
     private final AdRepository adRepository;
+    private final AdServingIndex adServingIndex;
+    private final AdSamplingEngine adSamplingEngine;
     private final UserProfileService userProfileService;
     private final AbTestService abTestService;
+    private final AdCounterStore adCounterStore;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("adSelectionExecutor")
+    private final Executor adSelectionExecutor;
+
+    @Value("${ads.serving.position-timeout-ms:150}")
+    private long positionTimeoutMs;
+
+    private final Map<AdPosition, Map<SelectionOutcome, Timer>> positionTimers = new EnumMap<>(AdPosition.class);
+
+    /**
+     * 포지션별 선정 지연 히스토그램 등록 (position × outcome)
+     */
+    @PostConstruct
+    void registerPositionTimers() {
+        for (AdPosition position : AdPosition.values()) {
+            Map<SelectionOutcome, Timer> timers = new EnumMap<>(SelectionOutcome.class);
+            for (SelectionOutcome outcome : SelectionOutcome.values()) {
+                timers.put(outcome, Timer.builder("ads_position_selection_duration_seconds")
+                        .description("Per-position ad selection latency from submission to completion, or to cancellation at the request deadline")
+                        .tag("position", position.name())
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+            positionTimers.put(position, timers);
+        }
+    }
 
     /**
      * 🎯 핵심 메서드: 안정성이 강화된 사용자 맞춤 광고 추천
+     * - 트랜잭션 없이 인메모리 인덱스에서 후보를 선정하므로 요청 동안 DB 커넥션을 점유하지 않음
+     * - 포지션별 후보 선정은 병렬 수행, 요청 단위 마감시간 초과 포지션은 빈 리스트로 대체
+     * - 노출 기록 등 부수효과는 모든 포지션 선정이 끝난 뒤 비동기 버퍼로 위임
      */
-    @Transactional
     public Map<String, List<Ad>> recommendAdsForUser(Long userId) {
+        return recommendAdsForUser(userId, assignScenario(userId));
+    }
+
+    /**
+     * 이미 결정된 A/B 시나리오로 추천 (비개인화 세그먼트는 프로필 조회 생략)
+     */
+    public Map<String, List<Ad>> recommendAdsForUser(Long userId, AbTestScenario scenario) {
         log.info("광고 추천 시작 - userId: {}", userId);
 
         Map<String, List<Ad>> result = new HashMap<>();
 
         try {
-            // 1. 사용자 프로필 조회 (캐싱 + Fallback 적용)
-            UserProfileDto userProfile = userProfileService.getUserProfile(userId);
-
-            // 2. A/B 테스트 그룹 결정
-            AbTestScenario scenario = null;
-            if (userId != null) {
-                scenario = abTestService.assignUserToGroup(userId);
-            }
-
-            // 3. 각 포지션별 광고 추천 (안전한 처리)
-            for (AdPosition position : AdPosition.values()) {
-                try {
-                    List<Ad> recommendedAds = recommendAdsForPosition(userProfile, scenario, position);
+            // 1. 사용자 프로필 조회 (Treatment만 사용하므로 비로그인/Control은 생략)
+            UserProfileDto userProfile = isNonPersonalized(scenario)
+                    ? null
+                    : userProfileService.getUserProfile(userId);
 
-                    // 4. 노출 이벤트 기록 (에러가 발생해도 광고 서빙은 계속)
-                    recordImpressionsSafely(userId, scenario, recommendedAds, position);
+            // 2. 각 포지션별 광고 추천 (병렬 + 마감시간, 안전한 처리)
+            result.putAll(recommendAdsForAllPositions(userId, userProfile, scenario));
 
-                    result.put(position.name(), recommendedAds);
-
-                } catch (Exception e) {
-                    log.error("포지션별 광고 추천 실패 - userId: {}, position: {}", userId, position, e);
-                    // 실패해도 빈 리스트로 계속 진행
-                    result.put(position.name(), List.of());
-                }
-            }
+            // 3. 노출 이벤트 기록 (응답 구성 이후 위임, 에러가 발생해도 광고 서빙은 계속)
+            recordImpressionsSafely(userId, scenario, result);
 
             int totalAds = result.values().stream().mapToInt(List::size).sum();
             log.info("광고 추천 완료 - userId: {}, 총 광고 수: {}", userId, totalAds);
@@ -79,25 +117,110 @@ public class AdRecommendationService {
         }
     }
 
+    /**
+     * A/B 시나리오 결정 (비로그인은 null)
+     */
+    public AbTestScenario assignScenario(Long userId) {
+        return userId != null ? abTestService.assignUserToGroup(userId) : null;
+    }
+
+    /**
+     * 비개인화 서빙 대상 여부 (비로그인 또는 Control 그룹) - 모든 사용자가 같은 랜덤 서빙을 받음
+     */
+    public static boolean isNonPersonalized(AbTestScenario scenario) {
+        return scenario == null || scenario.getGroup() == AbTestGroup.CONTROL;
+    }
+
+    /**
+     * 🔧 포지션별 병렬 후보 선정
+     * 모든 포지션이 하나의 요청 마감시간을 공유하며, 초과/실패 포지션만 빈 리스트로 대체
+     */
+    private Map<String, List<Ad>> recommendAdsForAllPositions(Long userId, UserProfileDto userProfile,
+                                                              AbTestScenario scenario) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(positionTimeoutMs);
+
+        Map<AdPosition, CompletableFuture<List<Ad>>> futures = new EnumMap<>(AdPosition.class);
+        for (AdPosition position : AdPosition.values()) {
+            long submittedAt = System.nanoTime();
+            CompletableFuture<List<Ad>> future;
+            try {
+                future = CompletableFuture.supplyAsync(
+                        () -> recommendAdsForPosition(userProfile, scenario, position), adSelectionExecutor);
+            } catch (RejectedExecutionException e) {
+                // 선정 풀 포화: 요청 스레드에서 대신 실행하지 않고 해당 포지션만 실패 처리
+                future = CompletableFuture.failedFuture(e);
+            }
+            // 앞선 포지션 대기 시간이 섞이지 않도록 각 작업의 완료 시점에 기록
+            future.whenComplete((ads, throwable) -> recordSelectionDuration(position, submittedAt, throwable));
+            futures.put(position, future);
+        }
+
+        Map<String, List<Ad>> result = new HashMap<>();
+        for (Map.Entry<AdPosition, CompletableFuture<List<Ad>>> entry : futures.entrySet()) {
+            AdPosition position = entry.getKey();
+            CompletableFuture<List<Ad>> future = entry.getValue();
+            List<Ad> recommendedAds = List.of();
+
+            try {
+                long remaining = Math.max(0L, deadline - System.nanoTime());
+                recommendedAds = future.get(remaining, TimeUnit.NANOSECONDS);
+
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("포지션별 광고 추천 마감시간 초과 - userId: {}, position: {}, timeoutMs: {}",
+                        userId, position, positionTimeoutMs);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RejectedExecutionException) {
+                    log.warn("포지션별 광고 추천 풀 포화로 거절 - userId: {}, position: {}", userId, position);
+                } else {
+                    log.error("포지션별 광고 추천 실패 - userId: {}, position: {}", userId, position, e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("포지션별 광고 추천 중단 - userId: {}, position: {}", userId, position);
+            }
+
+            // 실패/초과해도 빈 리스트로 계속 진행
+            result.put(position.name(), recommendedAds);
+        }
+        return result;
+    }
+
+    /**
+     * 포지션 선정 작업의 제출 → 완료 시간 기록
+     * 마감시간 초과로 취소된 작업은 취소 시점까지를 timeout으로 기록
+     */
+    private void recordSelectionDuration(AdPosition position, long submittedAt, Throwable throwable) {
+        SelectionOutcome outcome = throwable == null ? SelectionOutcome.SUCCESS
+                : throwable instanceof CancellationException ? SelectionOutcome.TIMEOUT
+                : throwable instanceof RejectedExecutionException ? SelectionOutcome.REJECTED
+                : SelectionOutcome.ERROR;
+        positionTimers.get(position).get(outcome).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * 🔧 안전한 노출 이벤트 기록 (광고 서빙에 영향 없도록)
+     * 이벤트 버퍼/카운터에 적재만 하므로 DB 커넥션을 사용하지 않음
      */
-    private void recordImpressionsSafely(Long userId, AbTestScenario scenario,
-                                         List<Ad> ads, AdPosition position) {
-        if (userId == null || scenario == null || ads.isEmpty()) {
+    public void recordImpressionsSafely(Long userId, AbTestScenario scenario,
+                                        Map<String, List<Ad>> adsByPosition) {
+        if (userId == null || scenario == null) {
             return;
         }
 
-        try {
-            for (Ad ad : ads) {
-                abTestService.recordImpression(userId, scenario.getScenarioCode(),
-                        scenario.getGroup(), ad.getId(), position);
-                ad.increaseImpression();
+        for (Map.Entry<String, List<Ad>> entry : adsByPosition.entrySet()) {
+            AdPosition position = AdPosition.valueOf(entry.getKey());
+            try {
+                for (Ad ad : entry.getValue()) {
+                    abTestService.recordImpression(userId, scenario.getScenarioCode(),
+                            scenario.getGroup(), ad.getId(), position);
+                    adCounterStore.recordImpression(ad.getId());
+                }
+            } catch (Exception e) {
+                log.warn("노출 이벤트 기록 실패 (광고 서빙은 계속) - userId: {}, position: {}",
+                        userId, position, e);
+                // 에러가 발생해도 광고 서빙은 계속 진행
             }
-        } catch (Exception e) {
-            log.warn("노출 이벤트 기록 실패 (광고 서빙은 계속) - userId: {}, position: {}",
-                    userId, position, e);
-            // 에러가 발생해도 광고 서빙은 계속 진행
         }
     }
 
@@ -108,7 +231,7 @@ public class AdRecommendationService {
                                              AbTestScenario scenario, AdPosition position) {
 
         // 비로그인 사용자 또는 Control 그룹: 랜덤 서빙
-        if (userProfile == null || scenario == null || scenario.getGroup().name().equals("CONTROL")) {
+        if (userProfile == null || isNonPersonalized(scenario)) {
             return selectRandomAds(position);
         }
 
@@ -125,119 +248,66 @@ public class AdRecommendationService {
         log.debug("행동태그 기반 타겟팅 시작 - userId: {}, position: {}",
                 userProfile.getUserId(), position);
 
-        // 1순위: 완전 매치 광고
-        List<Ad> perfectMatch = adRepository.findByBehaviorTargeting(
-                position,
-                scenario.getScenarioCode(),
-                userProfile.getDemographicSegment(),
-                userProfile.getEngagementLevel(),
-                userProfile.getCookingStylePreference()
-        );
-
-        if (!perfectMatch.isEmpty()) {
-            List<Ad> selected = selectBestAds(perfectMatch, 3);
-            log.debug("완전 매치 광고 선택 - userId: {}, 광고 수: {}",
-                    userProfile.getUserId(), selected.size());
-            return selected;
-        }
-
-        // 2순위: 부분 매치 광고
-        List<Ad> partialMatch = adRepository.findByPartialBehaviorTargeting(
+        // 완전 매치 → 부분 매치(요리스타일/참여도/인구통계/미타겟팅)를 한 번의 인덱스 순회로 선택
+        AdServingIndex.TargetedMatch match = adServingIndex.findTargetedMatches(
                 position,
                 scenario.getScenarioCode(),
                 userProfile.getDemographicSegment(),
                 userProfile.getEngagementLevel(),
-                userProfile.getCookingStylePreference()
+                userProfile.getCookingStylePreference(),
+                3
         );
 
-        if (!partialMatch.isEmpty()) {
-            List<Ad> selected = selectBestAds(partialMatch, 3);
-            log.debug("부분 매치 광고 선택 - userId: {}, 광고 수: {}",
-                    userProfile.getUserId(), selected.size());
-            return selected;
+        if (!match.ads().isEmpty()) {
+            log.debug("타겟팅 광고 선택 - userId: {}, 매치 등급: {}, 광고 수: {}",
+                    userProfile.getUserId(), match.bestTier(), match.ads().size());
+            return match.ads();
         }
 
-        // 3순위: Fallback - 랜덤 광고
+        // Fallback - 랜덤 광고
         log.warn("타겟팅 매치 실패, Fallback 수행 - userId: {}", userProfile.getUserId());
         return selectRandomAds(position);
     }
 
     /**
      * 랜덤 광고 서빙 (Control 그룹 또는 비로그인)
+     * 점수순 정렬 없이 추출 엔진(균등/점수 가중)으로 매 요청 무작위 선정
      */
-    private List<Ad> selectRandomAds(AdPosition position) {
-        log.debug("랜덤 광고 선택 - position: {}", position);
+    public List<Ad> selectRandomAds(AdPosition position) {
+        log.debug("랜덤 광고 선택 - position: {}, mode: {}", position, adSamplingEngine.getMode());
 
-        // Control 그룹용 광고 조회
-        List<Ad> randomAds = adRepository.findByScenarioCodeAndPosition("CONTROL", position);
+        // Control 그룹용 광고에서 추출
+        List<Ad> randomAds = adSamplingEngine.sample(
+                adServingIndex.samplingPoolForScenario("CONTROL", position), 3);
 
         if (randomAds.isEmpty()) {
-            // Control 광고가 없으면 모든 활성 광고에서 선택
-            randomAds = adRepository.findAll().stream()
-                    .filter(ad -> ad.getPreferredPosition() == position)
-                    .filter(this::isAdEligible)
-                    .collect(Collectors.toList());
+            // Control 광고가 없으면 포지션 전체 송출 가능 풀에서 추출 (테이블 크기와 무관)
+            randomAds = adSamplingEngine.sample(adServingIndex.samplingPoolForPosition(position), 3);
         }
 
-        return selectBestAds(randomAds, 3);
-    }
-
-    /**
-     * 최적 광고 선택 (점수 기반)
-     */
-    private List<Ad> selectBestAds(List<Ad> candidates, int limit) {
-        return candidates.stream()
-                .filter(this::isAdEligible)
-                .sorted((a1, a2) -> {
-                    // 1순위: 광고 점수
-                    int scoreCompare = Float.compare(
-                            a2.getScore() != null ? a2.getScore() : 0f,
-                            a1.getScore() != null ? a1.getScore() : 0f
-                    );
-                    if (scoreCompare != 0) return scoreCompare;
-
-                    // 2순위: CTR
-                    int ctrCompare = Float.compare(a2.calculateCTR(), a1.calculateCTR());
-                    if (ctrCompare != 0) return ctrCompare;
-
-                    // 3순위: 최신순
-                    return a2.getCreatedAt().compareTo(a1.getCreatedAt());
-                })
-                .limit(limit)
-                .collect(Collectors.toList());
+        return randomAds;
     }
 
     /**
-     * 광고 송출 가능 여부 검증
+     * 최적 광고 선택 (점수 → CTR → 최신순 상위 limit건, 전체 정렬 없이 선택)
+     * 후보는 인덱스에서 이미 송출 가능 판정을 거쳤으므로 요청 경로에서 재검증하지 않음
      */
-    private boolean isAdEligible(Ad ad) {
-        // 상태 확인
-        if (ad.getStatus() != AdStatus.ACTIVE) return false;
-
-        // 예산 확인
-        if (ad.getBudget() != null && ad.getSpentAmount() != null) {
-            if (ad.getSpentAmount() >= ad.getBudget()) return false;
-        }
-
-        // 기간 확인
-        OffsetDateTime now = OffsetDateTime.now();
-        if (ad.getStartAt() != null && now.isBefore(ad.getStartAt())) return false;
-        if (ad.getEndAt() != null && now.isAfter(ad.getEndAt())) return false;
-
-        return true;
+    List<Ad> selectBestAds(List<Ad> candidates, int limit) {
+        return AdTopKSelector.selectTopK(candidates, limit);
     }
 
     /**
      * 클릭 이벤트 처리
+     * 존재 확인과 이벤트 기록이 각자 짧은 트랜잭션으로 수행되도록 메서드 트랜잭션은 두지 않음
      */
-    @Transactional
     public void handleAdClick(Long userId, Long adId, AdPosition position) {
         log.info("광고 클릭 처리 - userId: {}, adId: {}", userId, adId);
 
-        // 광고 클릭 수 증가
-        Ad ad = adRepository.findById(adId)
-                .orElseThrow(() -> new IllegalArgumentException("광고를 찾을 수 없습니다: " + adId));
-        ad.increaseClick();
+        // 광고 클릭 수 증가 (write-behind 집계, ads 행을 직접 갱신하지 않음)
+        if (!adRepository.existsById(adId)) {
+            throw new IllegalArgumentException("광고를 찾을 수 없습니다: " + adId);
+        }
+        adCounterStore.recordClick(adId);
 
         // A/B 테스트 이벤트 기록
         if (userId != null) {
@@ -246,4 +316,8 @@ public class AdRecommendationService {
                     scenario.getGroup(), adId, position);
         }
     }
+
+    private enum SelectionOutcome {
+        SUCCESS, TIMEOUT, REJECTED, ERROR
+    }
 }
@@ -4,6 +4,10 @@ import com.three.recipingadsservicebe.targeting.dto.UserInfoDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 @FeignClient(
         name = "user-service",
@@ -13,4 +17,10 @@ public interface UserFeignClient {
 
     @GetMapping("/api/v1/internal/users/{userId}/info")
     UserInfoDto getUserInfo(@PathVariable("userId") Long userId);
+
+    /**
+     * 다건 사용자 정보 조회 (존재하지 않는 userId는 응답에서 제외)
+     */
+    @PostMapping("/api/v1/internal/users/info/batch")
+    List<UserInfoDto> getUserInfos(@RequestBody List<Long> userIds);
 }
@@ -0,0 +1,53 @@
+package com.three.recipingadsservicebe.feign.stub;
+
+import com.three.recipingadsservicebe.targeting.dto.UserInfoDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 🔧 로컬 개발용 user-service 스텁
+ * local 프로필에서 user-service.url을 자기 자신(http://localhost:8080)으로 지정하면
+ * 실제 User 서비스 없이 단건/다건 조회 흐름을 확인할 수 있음
+ */
+@Slf4j
+@Profile("local")
+@RestController
+public class LocalUserServiceStubController {
+
+    private static final UserInfoDto.SexType[] SEX_TYPES = UserInfoDto.SexType.values();
+    private static final UserInfoDto.AgeType[] AGE_TYPES = UserInfoDto.AgeType.values();
+
+    @GetMapping("/api/v1/internal/users/{userId}/info")
+    public UserInfoDto getUserInfo(@PathVariable("userId") Long userId) {
+        return stubUserInfo(userId);
+    }
+
+    @PostMapping("/api/v1/internal/users/info/batch")
+    public List<UserInfoDto> getUserInfos(@RequestBody List<Long> userIds) {
+        log.debug("스텁 다건 사용자 조회 - 건수: {}", userIds.size());
+        return userIds.stream()
+                .map(this::stubUserInfo)
+                .toList();
+    }
+
+    /**
+     * userId 기반의 결정적 가짜 사용자 정보
+     */
+    private UserInfoDto stubUserInfo(Long userId) {
+        return UserInfoDto.builder()
+                .userId(userId)
+                .nickname("stub-user-" + userId)
+                .email("stub-user-" + userId + "@reciping.local")
+                .sex(SEX_TYPES[(int) (userId % SEX_TYPES.length)])
+                .age(AGE_TYPES[(int) (userId % AGE_TYPES.length)])
+                .role(UserInfoDto.RoleType.USER)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.three.recipingadsservicebe.global.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 광고 서빙 포지션별 병렬 후보 선정용 executor
+ */
+@Configuration
+public class AdServingExecutorConfig {
+
+    /**
+     * 고정 크기 풀 + 작은 큐: 포화 시 큐에 오래 쌓이거나 요청 스레드에서 직접 실행하는 대신 즉시 거절
+     * 거절된 포지션은 AdRecommendationService에서 실패한 future로 바뀌어 빈 리스트로 대체됨
+     * (큐가 커지면 대기만으로 포지션 마감시간을 넘기고, CallerRunsPolicy는 요청 스레드가 마감시간을 무시하고 선정을 수행)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor adSelectionExecutor(
+            @Value("${ads.serving.executor.pool-size:32}") int poolSize,
+            @Value("${ads.serving.executor.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ad-select-");
+        // 포화 시 TaskRejectedException (RejectedExecutionException)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(mdcPropagatingDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * traceId 등 MDC 컨텍스트를 작업 스레드로 전달
+     */
+    private TaskDecorator mdcPropagatingDecorator() {
+        return runnable -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        };
+    }
+}
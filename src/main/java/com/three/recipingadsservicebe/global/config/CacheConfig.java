@@ -0,0 +1,166 @@
+package com.three.recipingadsservicebe.global.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.three.recipingadsservicebe.targeting.dto.UserProfileDto;
+import com.three.recipingadsservicebe.targeting.service.UserProfileService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 🔧 로컬 캐시 설정 (Caffeine)
+ * - userProfiles: 크기 제한 + TTL + refresh-ahead
+ * - 조회 실패로 생성된 기본 프로필은 짧은 TTL로만 보관
+ * - recordStats()로 hit/miss/eviction 통계를 Micrometer(cache.*)에 노출
+ * - 동일 userId 동시 미스는 LoadingCache가 하나의 로드로 합치며, 합류한(로더를 직접 실행하지 않은) 미스 수를
+ *   ads_user_profile_coalesced_total로 노출 (Caffeine 통계는 합류한 호출을 hit로 집계하므로 별도 계수)
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String USER_PROFILES = "userProfiles";
+
+    @Bean
+    public CacheManager cacheManager(
+            ObjectProvider<UserProfileService> userProfileService,
+            @Value("${ads.cache.user-profiles.maximum-size:100000}") long maximumSize,
+            @Value("${ads.cache.user-profiles.ttl-seconds:600}") long ttlSeconds,
+            @Value("${ads.cache.user-profiles.refresh-after-seconds:300}") long refreshAfterSeconds,
+            @Value("${ads.cache.user-profiles.fallback-ttl-seconds:30}") long fallbackTtlSeconds,
+            MeterRegistry meterRegistry) {
+
+        Counter coalescedCounter = Counter.builder("ads_user_profile_coalesced_total")
+                .description("User profile cache misses that joined another caller's in-flight load")
+                .register(meterRegistry);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return USER_PROFILES.equals(name)
+                        ? new CoalescingCountingCache(name, cache, isAllowNullValues(), coalescedCounter)
+                        : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        cacheManager.registerCustomCache(USER_PROFILES, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UserProfileExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(fallbackTtlSeconds)))
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+                .recordStats()
+                .build(new UserProfileCacheLoader(userProfileService)));
+        return cacheManager;
+    }
+
+    /**
+     * 조회 시점에 엔트리가 없었는데 현재 스레드가 로더를 실행하지 않았다면 다른 호출의 로드에 합류한 것
+     * (asMap().containsKey는 hit/miss 통계를 남기지 않음)
+     */
+    private static class CoalescingCountingCache extends CaffeineCache {
+
+        private final Counter coalescedCounter;
+
+        CoalescingCountingCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                boolean allowNullValues, Counter coalescedCounter) {
+            super(name, cache, allowNullValues);
+            this.coalescedCounter = coalescedCounter;
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            if (getNativeCache().asMap().containsKey(key)) {
+                return super.lookup(key);
+            }
+            UserProfileCacheLoader.LOADED_BY_CURRENT_THREAD.remove();
+            try {
+                Object value = super.lookup(key);
+                if (!Boolean.TRUE.equals(UserProfileCacheLoader.LOADED_BY_CURRENT_THREAD.get())) {
+                    coalescedCounter.increment();
+                }
+                return value;
+            } finally {
+                UserProfileCacheLoader.LOADED_BY_CURRENT_THREAD.remove();
+            }
+        }
+    }
+
+    /**
+     * 미스/refresh-ahead 시 실제 조회 수행
+     * refresh 결과가 기본 프로필이면 기존 정상 프로필을 유지
+     */
+    private static class UserProfileCacheLoader implements CacheLoader<Object, Object> {
+
+        // 미스 시 LoadingCache.get을 호출한 스레드에서 로더가 실행됐는지 (합류 여부 판단용)
+        static final ThreadLocal<Boolean> LOADED_BY_CURRENT_THREAD = new ThreadLocal<>();
+
+        private final ObjectProvider<UserProfileService> userProfileService;
+
+        UserProfileCacheLoader(ObjectProvider<UserProfileService> userProfileService) {
+            this.userProfileService = userProfileService;
+        }
+
+        @Override
+        public Object load(Object key) {
+            LOADED_BY_CURRENT_THREAD.set(Boolean.TRUE);
+            return fetch(key);
+        }
+
+        @Override
+        public Object reload(Object key, Object oldValue) {
+            Object reloaded = fetch(key);
+            if (reloaded instanceof UserProfileDto profile && profile.isFallback()
+                    && oldValue instanceof UserProfileDto previous && !previous.isFallback()) {
+                return oldValue;
+            }
+            return reloaded;
+        }
+
+        private Object fetch(Object key) {
+            return userProfileService.getObject().loadUserProfile((Long) key);
+        }
+    }
+
+    /**
+     * 엔트리별 만료 정책: 기본 프로필은 fallbackTtl, 나머지는 ttl
+     */
+    private static class UserProfileExpiry implements Expiry<Object, Object> {
+
+        private final long ttlNanos;
+        private final long fallbackTtlNanos;
+
+        UserProfileExpiry(Duration ttl, Duration fallbackTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.fallbackTtlNanos = fallbackTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return ttlFor(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return ttlFor(value);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long ttlFor(Object value) {
+            return value instanceof UserProfileDto profile && profile.isFallback() ? fallbackTtlNanos : ttlNanos;
+        }
+    }
+}
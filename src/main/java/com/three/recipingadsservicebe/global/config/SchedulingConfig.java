@@ -0,0 +1,38 @@
+package com.three.recipingadsservicebe.global.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 서빙 인덱스 재적재 등 주기 작업 활성화
+ * - taskScheduler: @Scheduled 작업 공용 (spring.task.scheduling.* 설정 적용)
+ * - adServingIndexScheduler: 서빙 인덱스 기간 경계 재구성 전용
+ *   공용 스케줄러는 기본 스레드 1개라 파티션 유지/집계 flush 등이 길어지면 광고 시작/종료 반영이 그만큼 밀리므로 분리
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+
+    public static final String AD_SERVING_INDEX_SCHEDULER = "adServingIndexScheduler";
+
+    /**
+     * TaskScheduler 빈을 직접 등록하면 Boot 기본 taskScheduler가 생성되지 않으므로 같은 설정으로 다시 등록
+     * (TaskScheduler가 여러 개일 때 @Scheduled는 이름이 taskScheduler인 빈을 사용)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(AD_SERVING_INDEX_SCHEDULER)
+    public ThreadPoolTaskScheduler adServingIndexScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ad-index-boundary-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -0,0 +1,36 @@
+package com.three.recipingadsservicebe.global.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 🔧 User 서비스 호출 보호 (Resilience4j)
+ * - 설정은 resilience4j.*.instances.userService 프로퍼티에서 로딩
+ * - 서킷 상태/호출 결과 메트릭은 resilience4j-micrometer가 자동 노출 (resilience4j_circuitbreaker_*)
+ */
+@Configuration
+public class UserServiceResilienceConfig {
+
+    public static final String USER_SERVICE = "userService";
+
+    @Bean
+    public CircuitBreaker userServiceCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker(USER_SERVICE);
+    }
+
+    @Bean
+    public Bulkhead userServiceBulkhead(BulkheadRegistry bulkheadRegistry) {
+        return bulkheadRegistry.bulkhead(USER_SERVICE);
+    }
+
+    @Bean
+    public TimeLimiter userServiceTimeLimiter(TimeLimiterRegistry timeLimiterRegistry) {
+        return timeLimiterRegistry.timeLimiter(USER_SERVICE);
+    }
+}
@@ -1,18 +1,32 @@
 package com.three.recipingadsservicebe.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 
+/**
+ * 🔧 JWT 추출/검증
+ * - 파서는 서명 키로 한 번만 생성해 재사용 (빌드된 JwtParser는 불변, 스레드 안전)
+ * - 서명 검증을 통과한 클레임은 토큰의 SHA-256 해시를 키로 보관하고 exp 시각에 만료
+ *   (같은 세션의 반복 요청은 HMAC 검증 없이 캐시 조회만 수행, 원문 토큰은 보관하지 않음)
+ */
 @Slf4j
 @Component
 public class JwtUtil {
@@ -20,16 +34,23 @@ public class JwtUtil {
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JwtUtil::newSha256);
 
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedClaims;
 
-    @PostConstruct
-    public void init() {
-        byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtil(@Value("${jwt.secret.key}") String secretKey,
+                   @Value("${jwt.claims-cache.maximum-size:100000}") long maximumSize,
+                   @Value("${jwt.claims-cache.max-ttl-seconds:600}") long maxTtlSeconds,
+                   MeterRegistry meterRegistry) {
+        Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ClaimsExpiry(Duration.ofSeconds(maxTtlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwtVerifiedClaims");
     }
 
     // JWT 헤더에서 추출
@@ -41,11 +62,43 @@ public class JwtUtil {
         return null;
     }
 
+    /**
+     * 검증된 클레임 조회 (캐시 히트 시 서명 검증 생략), 유효하지 않은 토큰이면 null
+     */
+    public Claims resolveClaims(String token) {
+        String cacheKey = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(cacheKey);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Claims claims = verify(token);
+        if (claims != null) {
+            verifiedClaims.put(cacheKey, claims);
+        }
+        return claims;
+    }
+
     // JWT 검증
     public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
+    }
+
+    // 클레임 정보 추출
+    public Claims getUserInfoFromToken(String token) {
+        Claims claims = resolveClaims(token);
+        if (claims == null) {
+            throw new MalformedJwtException("Invalid JWT token");
+        }
+        return claims;
+    }
+
+    /**
+     * 서명/만료 검증 (캐시 미스 시에만 호출)
+     */
+    private Claims verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature");
         } catch (ExpiredJwtException e) {
@@ -55,11 +108,56 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty");
         }
-        return false;
+        return null;
     }
 
-    // 클레임 정보 추출
-    public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    private static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 엔트리별 만료 정책: 토큰 exp까지 (exp가 없거나 더 길면 maxTtl)
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        ClaimsExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -31,8 +31,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         try {
             String token = jwtUtil.getTokenFromRequest(request);
 
-            if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
-                Claims claims = jwtUtil.getUserInfoFromToken(token);
+            // 검증과 클레임 추출을 한 번에 (같은 토큰의 반복 요청은 캐시된 클레임 사용)
+            Claims claims = StringUtils.hasText(token) ? jwtUtil.resolveClaims(token) : null;
+            if (claims != null) {
 
                 String email = claims.getSubject();
                 String role = claims.get("role", String.class);
@@ -0,0 +1,61 @@
+package com.three.recipingadsservicebe.log.dto;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 🔧 요청 스레드에서 캡처하는 로그 컨텍스트
+ * - 요청/보안 컨텍스트는 스레드에 묶여 있으므로 원본 값만 복사해 두고
+ *   IP 해석, 타임스탬프 포맷 등 가공은 로그 writer 스레드에서 수행
+ */
+public record AdLogContext(
+        long timestampMillis,
+        String traceId,
+        LogActorType actorType,
+        String path,
+        String method,
+        String forwardedFor,
+        String remoteAddr,
+        String userAgent,
+        String referer
+) {
+
+    public static AdLogContext capture(HttpServletRequest request) {
+        return new AdLogContext(
+                System.currentTimeMillis(),
+                MDC.get("traceId"),
+                resolveActorRole(),
+                request.getRequestURI(),
+                request.getMethod(),
+                request.getHeader("X-Forwarded-For"),
+                request.getRemoteAddr(),
+                request.getHeader("User-Agent"),
+                request.getHeader("Referer")
+        );
+    }
+
+    /**
+     * 사용자 역할 해석
+     */
+    private static LogActorType resolveActorRole() {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || authentication.getAuthorities() == null) {
+                return LogActorType.GUEST;
+            }
+
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                String role = authority.getAuthority();
+                if (role.contains("ADMIN")) return LogActorType.ADMIN;
+                if (role.contains("USER")) return LogActorType.USER;
+            }
+
+            return LogActorType.GUEST;
+        } catch (Exception e) {
+            return LogActorType.GUEST;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.three.recipingadsservicebe.log.dto;
+
+import org.slf4j.Logger;
+
+/**
+ * 🔧 광고 도메인 구조화 로그 이벤트 (요청 스레드에서 생성 → AdLogger 큐 → writer 스레드에서 출력)
+ * - logger는 출력 시 사용할 호출 측 로거 (로거별 appender 설정 유지)
+ */
+public record AdLogEvent(
+        Logger logger,
+        LogType logType,
+        AdLogContext context,
+        String userId,
+        String targetId,
+        AdLogPayload payload
+) {
+}
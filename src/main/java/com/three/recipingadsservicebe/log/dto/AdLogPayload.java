@@ -0,0 +1,125 @@
+package com.three.recipingadsservicebe.log.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🔧 광고 도메인 로그 페이로드 (타입별 필드를 그대로 보관, JSON 직렬화/역직렬화 왕복 없음)
+ * - 로그 writer 스레드에서 payload 맵과 최상위 비즈니스 필드로 펼침
+ */
+public sealed interface AdLogPayload {
+
+    /**
+     * payload 원본과 로그 타입별 비즈니스 메트릭을 logData에 기록
+     */
+    void appendTo(LogType logType, Map<String, Object> logData);
+
+    /**
+     * 광고 서빙 결과
+     */
+    record Serve(int totalAds, List<String> positions, String abGroup, String scenario,
+                 String errorType, String errorMessage) implements AdLogPayload {
+
+        public static Serve success(int totalAds, List<String> positions, String abGroup, String scenario) {
+            return new Serve(totalAds, positions, abGroup, scenario, null, null);
+        }
+
+        public static Serve failure(Exception e) {
+            return new Serve(0, List.of(), null, null, e.getClass().getSimpleName(), e.getMessage());
+        }
+
+        @Override
+        public void appendTo(LogType logType, Map<String, Object> logData) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("totalAds", totalAds);
+            payload.put("positions", positions);
+            putIfNotNull(payload, "abGroup", abGroup);
+            putIfNotNull(payload, "scenario", scenario);
+            putIfNotNull(payload, "errorType", errorType);
+            putIfNotNull(payload, "errorMessage", errorMessage);
+            payload.put("servingSuccess", totalAds > 0);
+
+            logData.put("payload", payload);
+            logData.put("totalAds", totalAds);
+            logData.put("positions", positions);
+            putIfNotNull(logData, "abGroup", abGroup);
+            putIfNotNull(logData, "scenario", scenario);
+            logData.put("servingSuccess", totalAds > 0);
+        }
+    }
+
+    /**
+     * 광고 클릭 처리 결과
+     */
+    record Click(Long adId, String position, boolean clickSuccess,
+                 String errorType, String errorMessage) implements AdLogPayload {
+
+        public static Click success(Long adId, String position) {
+            return new Click(adId, position, true, null, null);
+        }
+
+        public static Click failure(Long adId, String position, Exception e) {
+            return new Click(adId, position, false, e.getClass().getSimpleName(), e.getMessage());
+        }
+
+        @Override
+        public void appendTo(LogType logType, Map<String, Object> logData) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("adId", adId);
+            payload.put("position", position);
+            payload.put("clickSuccess", clickSuccess);
+            putIfNotNull(payload, "errorType", errorType);
+            putIfNotNull(payload, "errorMessage", errorMessage);
+
+            logData.put("payload", payload);
+            logData.put("adId", adId);
+            logData.put("position", position);
+        }
+    }
+
+    /**
+     * 광고 관리 액션 (생성/수정/삭제/상태 변경 등, 필드 구성이 액션마다 다름)
+     */
+    record Action(Map<String, Object> fields) implements AdLogPayload {
+
+        private static final Map<LogType, List<String>> EXTRACTED_KEYS = Map.of(
+                LogType.AD_CREATE, List.of("advertiserId", "adType", "title", "preferredPosition"),
+                LogType.AD_UPDATE, List.of("advertiserId", "adType", "title", "preferredPosition",
+                        "newTitle", "newAdType", "newPosition"),
+                LogType.AD_DELETE, List.of("deleteType"),
+                LogType.AD_STATUS_CHANGE, List.of("newStatus"),
+                LogType.AD_PERFORMANCE, List.of("ctr", "impressions", "clicks")
+        );
+
+        public Action {
+            // 호출 측에서 로깅 전용으로 만든 맵을 넘기므로 복사하지 않음 (null 값 허용)
+            fields = fields != null ? fields : Map.of();
+        }
+
+        @Override
+        public void appendTo(LogType logType, Map<String, Object> logData) {
+            logData.put("payload", fields);
+            for (String key : EXTRACTED_KEYS.getOrDefault(logType, List.of())) {
+                putIfNotNull(logData, key, fields.get(key));
+            }
+            if (logType == LogType.AD_PERFORMANCE && fields.get("ctr") instanceof Number ctr) {
+                logData.put("performanceLevel", categorizePerformance(ctr.doubleValue()));
+            }
+        }
+
+        private static String categorizePerformance(double ctr) {
+            if (ctr >= 0.05) return "EXCELLENT";
+            if (ctr >= 0.03) return "GOOD";
+            if (ctr >= 0.015) return "AVERAGE";
+            if (ctr >= 0.005) return "POOR";
+            return "VERY_POOR";
+        }
+    }
+
+    private static void putIfNotNull(Map<String, Object> target, String key, Object value) {
+        if (value != null) {
+            target.put(key, value);
+        }
+    }
+}
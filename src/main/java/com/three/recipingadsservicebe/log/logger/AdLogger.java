@@ -1,336 +1,279 @@
 package com.three.recipingadsservicebe.log.logger;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.three.recipingadsservicebe.log.dto.LogActorType;
+import com.three.recipingadsservicebe.log.dto.AdLogContext;
+import com.three.recipingadsservicebe.log.dto.AdLogEvent;
+import com.three.recipingadsservicebe.log.dto.AdLogPayload;
 import com.three.recipingadsservicebe.log.dto.LogType;
 import com.three.recipingadsservicebe.log.util.IpUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
-import java.time.OffsetDateTime;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
 
+/**
+ * 🔧 광고 도메인 전용 구조화 로거 (JSON 콘솔 출력)
+ * - 요청 스레드는 타입이 있는 AdLogEvent를 bounded 큐에 offer만 수행 (가득 차면 즉시 드롭, 블로킹 없음)
+ * - 백그라운드 writer가 IP 해석/타임스탬프 포맷/MDC 구성 후 호출 측 로거로 출력
+ */
 @Slf4j
+@Component
 public class AdLogger {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+    private static final List<String> MDC_KEYS = List.of(
+            "traceId", "logType", "actorType", "userId", "targetId",
+            "adPosition", "userSegment", "scenario", "abGroup", "servingSuccess");
+
+    private final BlockingQueue<AdLogEvent> queue;
+    private final IpUtil.TrustedProxies trustedProxies;
+    private final int batchSize;
+    private final long pollIntervalMs;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AdLogger(MeterRegistry meterRegistry,
+                    @Value("${ads.log.async.capacity:8192}") int capacity,
+                    @Value("${ads.log.async.batch-size:256}") int batchSize,
+                    @Value("${ads.log.async.poll-interval-ms:200}") long pollIntervalMs,
+                    @Value("${ads.log.trusted-proxies:}") String trustedProxies) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.trustedProxies = IpUtil.TrustedProxies.parse(trustedProxies);
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+
+        this.enqueuedCounter = Counter.builder("ads_log_events_enqueued_total")
+                .description("Ad domain log events accepted into the async log queue")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("ads_log_events_dropped_total")
+                .description("Ad domain log events dropped because the async log queue was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("ads_log_events_written_total")
+                .description("Ad domain log events written by the log writer")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("ads_log_events_failed_total")
+                .description("Ad domain log events that fell back to the simple format")
+                .register(meterRegistry);
+        Gauge.builder("ads_log_events_queue_size", queue, BlockingQueue::size)
+                .description("Ad domain log events waiting in the async log queue")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "ad-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
 
     /**
-     * 🔧 개선된 광고 도메인 전용 로깅 메서드 (JSON 콘솔 출력)
+     * 종료 시 남은 로그까지 출력
      */
-    public static void track(
-            Logger logger,
-            LogType logType,
-            String path,
-            String method,
-            String userId,
-            String transactionId,
-            String targetId,
-            String payload,
-            HttpServletRequest request
-    ) {
-        try {
-            // 1. TraceId 확인 및 처리
-            String traceId = MDC.get("traceId");
-            if (traceId == null || traceId.isEmpty()) {
-                log.warn("TraceId missing from gateway - request path: {}", path);
-                traceId = "MISSING_TRACE_ID";
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(pollIntervalMs * 2 + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
+        }
+        drainAndWrite();
+    }
 
-            LogActorType actorType = resolveActorRole();
-
-            // 2. 구조화된 로그 데이터 생성
-            Map<String, Object> logData = createStructuredLogData(
-                    traceId, logType, actorType, path, method,
-                    userId, transactionId, targetId, payload, request
-            );
-
-            // 3. MDC 컨텍스트 설정 (JSON 로깅용)
-            setMDCContext(logType, actorType, userId, targetId, logData);
-
-            // 4. 메시지 구성
-            String message = buildLogMessage(logType, logData, userId, path, method, traceId);
-
-            // 5. 구조화된 JSON 로깅
-            logger.info(message, convertMapToStructuredArgs(logData));
+    /**
+     * 🔧 광고 서빙 로깅
+     */
+    public boolean logAdServing(Logger logger, HttpServletRequest request,
+                                String userId, AdLogPayload.Serve serve) {
+        return track(logger, LogType.AD_SERVE, request, userId, null, serve);
+    }
 
-        } catch (Exception e) {
-            logger.warn("Structured logging failed for {}: {}, using fallback",
-                    logType, e.getMessage());
-            logSimpleFormat(logger, logType, path, method, userId, targetId, payload, request);
-        } finally {
-            cleanupMDC();
-        }
+    /**
+     * 🔧 광고 클릭 로깅
+     */
+    public boolean logAdClick(Logger logger, HttpServletRequest request,
+                              String userId, String adId, AdLogPayload.Click click) {
+        return track(logger, LogType.AD_CLICK, request, userId, adId, click);
     }
 
     /**
-     * 🔧 간편한 광고 서빙 로깅 메서드
+     * 🔧 광고 관리 로깅
      */
-    public static void logAdServing(Logger logger, HttpServletRequest request,
-                                    String userId, Map<String, Object> servingData) {
-        try {
-            String payload = objectMapper.writeValueAsString(servingData);
-            track(logger, LogType.AD_SERVE, request.getRequestURI(), request.getMethod(),
-                    userId, null, null, payload, request);
-        } catch (Exception e) {
-            logger.warn("Ad serving logging failed: {}", e.getMessage());
-        }
+    public boolean logAdManagement(Logger logger, LogType logType, HttpServletRequest request,
+                                   String userId, String adId, Map<String, Object> managementData) {
+        return track(logger, logType, request, userId, adId, new AdLogPayload.Action(managementData));
     }
 
     /**
-     * 🔧 간편한 광고 클릭 로깅 메서드
+     * 요청 컨텍스트만 캡처해 큐에 적재 (요청 스레드 비용은 복사 + offer)
      */
-    public static void logAdClick(Logger logger, HttpServletRequest request,
-                                  String userId, String adId, Map<String, Object> clickData) {
+    public boolean track(Logger logger, LogType logType, HttpServletRequest request,
+                         String userId, String targetId, AdLogPayload payload) {
         try {
-            String payload = objectMapper.writeValueAsString(clickData);
-            track(logger, LogType.AD_CLICK, request.getRequestURI(), request.getMethod(),
-                    userId, null, adId, payload, request);
+            return offer(new AdLogEvent(logger, logType, AdLogContext.capture(request), userId, targetId, payload));
         } catch (Exception e) {
-            logger.warn("Ad click logging failed: {}", e.getMessage());
+            logger.warn("광고 로그 이벤트 생성 실패 - logType: {}, error: {}", logType, e.getMessage());
+            return false;
         }
     }
 
     /**
-     * 🔧 간편한 광고 관리 로깅 메서드
+     * 논블로킹 적재 요청 (큐가 가득 차면 드롭)
      */
-    public static void logAdManagement(Logger logger, LogType logType, HttpServletRequest request,
-                                       String userId, String adId, Map<String, Object> managementData) {
-        try {
-            String payload = objectMapper.writeValueAsString(managementData);
-            track(logger, logType, request.getRequestURI(), request.getMethod(),
-                    userId, null, adId, payload, request);
-        } catch (Exception e) {
-            logger.warn("Ad management logging failed: {}", e.getMessage());
+    public boolean offer(AdLogEvent event) {
+        if (queue.offer(event)) {
+            enqueuedCounter.increment();
+            return true;
         }
+        droppedCounter.increment();
+        log.debug("광고 로그 큐 포화로 드롭 - logType: {}, userId: {}", event.logType(), event.userId());
+        return false;
     }
 
     /**
-     * 로그 메시지 구성
+     * 큐에 남은 로그를 모두 출력 (종료/테스트용)
      */
-    private static String buildLogMessage(LogType logType, Map<String, Object> logData,
-                                          String userId, String path, String method, String traceId) {
-        StringBuilder message = new StringBuilder();
-        message.append("[").append(logType.name()).append("] ");
-
-        // A/B 테스트 정보 포함
-        if (logData.containsKey("abGroup")) {
-            message.append("[").append(logData.get("abGroup")).append("] ");
+    void drainAndWrite() {
+        List<AdLogEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            batch.forEach(this::write);
+            batch.clear();
         }
+    }
 
-        // 폴백 정보 포함
-        if (logData.containsKey("fallbackLevel") &&
-                !logData.get("fallbackLevel").toString().equals("0")) {
-            message.append("[FALLBACK:L").append(logData.get("fallbackLevel")).append("] ");
+    private void runWriter() {
+        List<AdLogEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AdLogEvent first = queue.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::write);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
         }
+    }
 
-        message.append(method).append(" ").append(path)
-                .append(" by ").append(userId != null ? "user:" + userId : "GUEST")
-                .append(" (trace:").append(traceId).append(")");
+    /**
+     * writer 스레드에서 구조화된 JSON 로그 출력
+     */
+    void write(AdLogEvent event) {
+        Logger logger = event.logger();
+        try {
+            AdLogContext context = event.context();
+            String traceId = context.traceId();
+            if (traceId == null || traceId.isEmpty()) {
+                traceId = "MISSING_TRACE_ID";
+            }
 
-        // 주요 비즈니스 정보 추가
-        if (logData.containsKey("userSegment")) {
-            message.append(" [segment:").append(logData.get("userSegment")).append("]");
-        }
-        if (logData.containsKey("adPosition")) {
-            message.append(" [pos:").append(logData.get("adPosition")).append("]");
-        }
-        if (logData.containsKey("totalAds")) {
-            message.append(" [ads:").append(logData.get("totalAds")).append("]");
-        }
+            Map<String, Object> logData = createStructuredLogData(event);
+            setMDCContext(event, traceId, logData);
 
-        return message.toString();
+            String message = buildLogMessage(event, logData, traceId);
+            logger.info(message, convertMapToStructuredArgs(logData));
+            writtenCounter.increment();
+
+        } catch (Exception e) {
+            failedCounter.increment();
+            logger.warn("Structured logging failed for {}: {}, using fallback",
+                    event.logType(), e.getMessage());
+            logSimpleFormat(event);
+        } finally {
+            cleanupMDC();
+        }
     }
 
     /**
      * 구조화된 로그 데이터 생성
      */
-    private static Map<String, Object> createStructuredLogData(
-            String traceId, LogType logType, LogActorType actorType,
-            String path, String method, String userId, String transactionId,
-            String targetId, String payload, HttpServletRequest request
-    ) {
+    private Map<String, Object> createStructuredLogData(AdLogEvent event) {
+        AdLogContext context = event.context();
         Map<String, Object> logData = new HashMap<>();
 
         // 기본 메타데이터
-        logData.put("timestamp", OffsetDateTime.now().format(TIMESTAMP_FORMATTER));
-        logData.put("path", path);
-        logData.put("method", method);
-        logData.put("transactionId", transactionId != null ? transactionId : "-");
+        logData.put("timestamp", TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(context.timestampMillis())));
+        logData.put("path", context.path());
+        logData.put("method", context.method());
+        logData.put("transactionId", "-");
 
         // 클라이언트 정보
-        logData.put("clientIp", IpUtil.getClientIp(request));
-        logData.put("userAgent", request.getHeader("User-Agent"));
-        logData.put("referer", request.getHeader("Referer"));
+        logData.put("clientIp", IpUtil.getClientIp(context.forwardedFor(), context.remoteAddr(), trustedProxies));
+        logData.put("userAgent", context.userAgent());
+        logData.put("referer", context.referer());
 
-        // 페이로드 파싱 및 비즈니스 메트릭 추출
-        if (payload != null && !payload.equals("-")) {
-            try {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> payloadMap = objectMapper.readValue(payload, Map.class);
-                logData.put("payload", payloadMap);
-
-                // 비즈니스 메트릭 추출
-                extractBusinessMetrics(logData, payloadMap, logType);
-
-            } catch (Exception e) {
-                logData.put("payload", payload);
-                logData.put("payloadParseError", e.getMessage());
-            }
+        // 페이로드 및 비즈니스 메트릭
+        if (event.payload() != null) {
+            event.payload().appendTo(event.logType(), logData);
         } else {
             logData.put("payload", "{}");
         }
-
         return logData;
     }
 
     /**
-     * 🔧 개선된 비즈니스 메트릭 추출
+     * 로그 메시지 구성
      */
-    private static void extractBusinessMetrics(Map<String, Object> logData,
-                                               Map<String, Object> payload, LogType logType) {
-        switch (logType) {
-            case AD_SERVE -> {
-                // 서빙 관련 메트릭
-                extractIfPresent(payload, logData, "totalAds");
-                extractIfPresent(payload, logData, "userSegment");
-                extractIfPresent(payload, logData, "scenario");
-                extractIfPresent(payload, logData, "abGroup");
-                extractIfPresent(payload, logData, "positions");
-
-                // 서빙 성공률 계산
-                if (payload.containsKey("totalAds")) {
-                    int totalAds = Integer.parseInt(payload.get("totalAds").toString());
-                    logData.put("servingSuccess", totalAds > 0);
-                }
-            }
-
-            case AD_CLICK -> {
-                // 클릭 관련 메트릭
-                extractIfPresent(payload, logData, "adId");
-                extractIfPresent(payload, logData, "position");
-                extractIfPresent(payload, logData, "userSegment");
-                extractIfPresent(payload, logData, "abGroup");
-                extractIfPresent(payload, logData, "ctr");
-
-                // CTR 분류
-                if (payload.containsKey("ctr")) {
-                    try {
-                        double ctr = Double.parseDouble(payload.get("ctr").toString());
-                        logData.put("ctrCategory", categorizeCTR(ctr));
-                    } catch (Exception e) {
-                        logData.put("ctr", payload.get("ctr"));
-                    }
-                }
-            }
-
-            case AD_IMPRESSION -> {
-                // 노출 관련 메트릭
-                extractIfPresent(payload, logData, "adId");
-                extractIfPresent(payload, logData, "position");
-                extractIfPresent(payload, logData, "billingType");
-                extractIfPresent(payload, logData, "targetSegment");
-                extractIfPresent(payload, logData, "abGroup");
-            }
-
-            case AD_CREATE, AD_UPDATE -> {
-                // CRUD 관련 메트릭
-                extractIfPresent(payload, logData, "advertiserId");
-                extractIfPresent(payload, logData, "adType");
-                extractIfPresent(payload, logData, "title");
-                extractIfPresent(payload, logData, "preferredPosition");
-
-                if (logType == LogType.AD_UPDATE) {
-                    // 수정된 필드들 추적
-                    extractIfPresent(payload, logData, "newTitle");
-                    extractIfPresent(payload, logData, "newAdType");
-                    extractIfPresent(payload, logData, "newPosition");
-                }
-            }
-
-            case AD_DELETE -> {
-                extractIfPresent(payload, logData, "deleteType");
-            }
-
-            case AD_STATUS_CHANGE -> {
-                extractIfPresent(payload, logData, "newStatus");
-            }
+    private static String buildLogMessage(AdLogEvent event, Map<String, Object> logData, String traceId) {
+        StringBuilder message = new StringBuilder();
+        message.append("[").append(event.logType().name()).append("] ");
 
-            case AD_PERFORMANCE -> {
-                extractIfPresent(payload, logData, "ctr");
-                extractIfPresent(payload, logData, "impressions");
-                extractIfPresent(payload, logData, "clicks");
-
-                // 성과 분류
-                if (payload.containsKey("ctr")) {
-                    try {
-                        double ctr = Double.parseDouble(payload.get("ctr").toString());
-                        logData.put("performanceLevel", categorizePerformance(ctr));
-                    } catch (Exception e) {
-                        // 무시
-                    }
-                }
-            }
+        // A/B 테스트 정보 포함
+        if (logData.containsKey("abGroup")) {
+            message.append("[").append(logData.get("abGroup")).append("] ");
+        }
 
-            case AD_FALLBACK -> {
-                extractIfPresent(payload, logData, "fallbackSteps");
-                extractIfPresent(payload, logData, "originalScenario");
-                extractIfPresent(payload, logData, "finalScenario");
-                extractIfPresent(payload, logData, "fallbackResult");
+        message.append(event.context().method()).append(" ").append(event.context().path())
+                .append(" by ").append(event.userId() != null ? "user:" + event.userId() : "GUEST")
+                .append(" (trace:").append(traceId).append(")");
 
-                if (payload.containsKey("fallbackSteps")) {
-                    logData.put("fallbackLevel", extractFallbackLevel(payload));
-                }
-            }
+        // 주요 비즈니스 정보 추가
+        if (logData.containsKey("userSegment")) {
+            message.append(" [segment:").append(logData.get("userSegment")).append("]");
         }
-    }
-
-    /**
-     * 헬퍼 메서드들
-     */
-    private static void extractIfPresent(Map<String, Object> source, Map<String, Object> target, String key) {
-        if (source.containsKey(key)) {
-            target.put(key, source.get(key));
+        if (logData.containsKey("adPosition")) {
+            message.append(" [pos:").append(logData.get("adPosition")).append("]");
         }
-    }
-
-    private static String categorizeCTR(double ctr) {
-        if (ctr >= 0.03) return "HIGH";
-        if (ctr >= 0.015) return "MEDIUM";
-        if (ctr >= 0.005) return "LOW";
-        return "VERY_LOW";
-    }
-
-    private static String categorizePerformance(double ctr) {
-        if (ctr >= 0.05) return "EXCELLENT";
-        if (ctr >= 0.03) return "GOOD";
-        if (ctr >= 0.015) return "AVERAGE";
-        if (ctr >= 0.005) return "POOR";
-        return "VERY_POOR";
-    }
-
-    private static int extractFallbackLevel(Map<String, Object> payload) {
-        try {
-            Object steps = payload.get("fallbackSteps");
-            if (steps instanceof java.util.List) {
-                return ((java.util.List<?>) steps).size();
-            }
-            if (steps instanceof String) {
-                return steps.toString().split(",").length;
-            }
-        } catch (Exception e) {
-            // 무시
+        if (logData.containsKey("totalAds")) {
+            message.append(" [ads:").append(logData.get("totalAds")).append("]");
         }
-        return 0;
+
+        return message.toString();
     }
 
     /**
@@ -344,90 +287,48 @@ public class AdLogger {
     }
 
     /**
-     * MDC 컨텍스트 설정 (JSON 필드 포함용)
+     * MDC 컨텍스트 설정 (writer 스레드에서 JSON 필드 포함용)
      */
-    private static void setMDCContext(LogType logType, LogActorType actorType,
-                                      String userId, String targetId, Map<String, Object> logData) {
-        MDC.put("logType", logType.name());
-        MDC.put("actorType", actorType.name());
-        MDC.put("userId", userId != null ? userId : "GUEST");
-        MDC.put("targetId", targetId != null ? targetId : "-");
+    private static void setMDCContext(AdLogEvent event, String traceId, Map<String, Object> logData) {
+        MDC.put("traceId", traceId);
+        MDC.put("logType", event.logType().name());
+        MDC.put("actorType", event.context().actorType().name());
+        MDC.put("userId", event.userId() != null ? event.userId() : "GUEST");
+        MDC.put("targetId", event.targetId() != null ? event.targetId() : "-");
 
         // 핵심 비즈니스 차원들을 MDC에 설정 (JSON 로깅에서 최상위 필드로 노출)
-        if (logData.containsKey("adPosition")) {
-            MDC.put("adPosition", logData.get("adPosition").toString());
-        }
-        if (logData.containsKey("userSegment")) {
-            MDC.put("userSegment", logData.get("userSegment").toString());
-        }
-        if (logData.containsKey("scenario")) {
-            MDC.put("scenario", logData.get("scenario").toString());
-        }
-        if (logData.containsKey("abGroup")) {
-            MDC.put("abGroup", logData.get("abGroup").toString());
-        }
-        if (logData.containsKey("servingSuccess")) {
-            MDC.put("servingSuccess", logData.get("servingSuccess").toString());
-        }
+        putMDCIfPresent(logData, "adPosition");
+        putMDCIfPresent(logData, "userSegment");
+        putMDCIfPresent(logData, "scenario");
+        putMDCIfPresent(logData, "abGroup");
+        putMDCIfPresent(logData, "servingSuccess");
     }
 
-    /**
-     * 간단한 형태의 로그 (fallback용)
-     */
-    private static void logSimpleFormat(
-            Logger logger, LogType logType, String path, String method,
-            String userId, String targetId, String payload, HttpServletRequest request
-    ) {
-        String traceId = MDC.get("traceId");
-        LogActorType actorType = resolveActorRole();
-
-        String simpleLog = String.format("[%s] %s %s by %s (trace:%s) - payload:%s",
-                logType.name(),
-                method,
-                path,
-                userId != null ? "user:" + userId : "GUEST",
-                traceId != null ? traceId : "MISSING",
-                payload != null ? payload : "-"
-        );
-
-        logger.info(simpleLog);
+    private static void putMDCIfPresent(Map<String, Object> logData, String key) {
+        Object value = logData.get(key);
+        if (value != null) {
+            MDC.put(key, value.toString());
+        }
     }
 
     /**
-     * 사용자 역할 해석
+     * 간단한 형태의 로그 (fallback용)
      */
-    private static LogActorType resolveActorRole() {
-        try {
-            var authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || authentication.getAuthorities() == null) {
-                return LogActorType.GUEST;
-            }
-
-            for (GrantedAuthority authority : authentication.getAuthorities()) {
-                String role = authority.getAuthority();
-                if (role.contains("ADMIN")) return LogActorType.ADMIN;
-                if (role.contains("USER")) return LogActorType.USER;
-            }
-
-            return LogActorType.GUEST;
-        } catch (Exception e) {
-            return LogActorType.GUEST;
-        }
+    private static void logSimpleFormat(AdLogEvent event) {
+        AdLogContext context = event.context();
+        event.logger().info("[{}] {} {} by {} (trace:{}) - payload:{}",
+                event.logType().name(),
+                context.method(),
+                context.path(),
+                event.userId() != null ? "user:" + event.userId() : "GUEST",
+                context.traceId() != null ? context.traceId() : "MISSING",
+                event.payload() != null ? event.payload() : "-");
     }
 
     /**
-     * MDC 정리
+     * MDC 정리 (writer 스레드 전용이므로 traceId 포함 전부 제거)
      */
     private static void cleanupMDC() {
-        MDC.remove("logType");
-        MDC.remove("actorType");
-        MDC.remove("userId");
-        MDC.remove("targetId");
-        MDC.remove("adPosition");
-        MDC.remove("userSegment");
-        MDC.remove("scenario");
-        MDC.remove("abGroup");
-        MDC.remove("servingSuccess");
-        // traceId는 TraceIdFilter에서 관리하므로 제거하지 않음
+        MDC_KEYS.forEach(MDC::remove);
     }
-}
\ No newline at end of file
+}
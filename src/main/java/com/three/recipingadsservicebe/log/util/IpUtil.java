@@ -2,56 +2,361 @@ package com.three.recipingadsservicebe.log.util;
 
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.net.Inet6Address;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * 🔧 클라이언트 IP 추출
+ * - IPv4 / IPv6 / IPv4-mapped IPv6 리터럴을 문자 단위로 직접 파싱 (InetAddress 조회, 정규식, split 없음)
+ *   → 호스트명이나 잘못된 헤더 값이 들어와도 DNS 조회가 발생하지 않음
+ * - 신뢰 프록시 미설정 시: X-Forwarded-For 첫 번째 값 (IP 리터럴이 아니면 remoteAddr)
+ * - 신뢰 프록시 설정 시: remoteAddr부터 X-Forwarded-For를 오른쪽 → 왼쪽으로 걸으며 신뢰 프록시를 건너뛰고
+ *   처음 만나는 비신뢰 주소를 클라이언트로 판단 (remoteAddr가 신뢰 프록시가 아니면 헤더는 무시)
+ */
 public class IpUtil {
+
+    private static final String LOOPBACK_IPV4 = "127.0.0.1";
+
     public static String getClientIp(HttpServletRequest request) {
-        String remoteAddr = request.getHeader("X-FORWARDED-FOR");
+        return getClientIp(request.getHeader("X-FORWARDED-FOR"), request.getRemoteAddr());
+    }
+
+    /**
+     * 요청 스레드에서 복사해 둔 헤더 값으로 클라이언트 IP 해석 (비동기 로그 writer용)
+     */
+    public static String getClientIp(String forwardedFor, String remoteAddr) {
+        return getClientIp(forwardedFor, remoteAddr, TrustedProxies.NONE);
+    }
+
+    public static String getClientIp(String forwardedFor, String remoteAddr, TrustedProxies trustedProxies) {
+        IpLiteral remote = remoteAddr != null ? parse(remoteAddr, 0, remoteAddr.length()) : null;
+
+        if (trustedProxies.isEmpty()) {
+            // 게이트웨이가 붙여 준 첫 번째 값을 그대로 신뢰 (기존 동작)
+            if (forwardedFor != null && !forwardedFor.isEmpty()) {
+                int end = forwardedFor.indexOf(',');
+                IpLiteral first = parse(forwardedFor, 0, end >= 0 ? end : forwardedFor.length());
+                if (first != null) {
+                    return first.toText();
+                }
+            }
+            return remote != null ? remote.toText() : remoteAddr;
+        }
+
+        if (remote == null || !trustedProxies.contains(remote)) {
+            return remote != null ? remote.toText() : remoteAddr;
+        }
+
+        // 오른쪽(가장 가까운 프록시)부터 신뢰 프록시를 건너뜀
+        IpLiteral nearest = remote;
+        if (forwardedFor != null) {
+            int end = forwardedFor.length();
+            while (end > 0) {
+                int start = forwardedFor.lastIndexOf(',', end - 1) + 1;
+                IpLiteral hop = parse(forwardedFor, start, end);
+                if (hop == null) {
+                    // 리터럴이 아닌 값은 위조 가능성이 있으므로 마지막으로 확인된 주소에서 멈춤
+                    break;
+                }
+                if (!trustedProxies.contains(hop)) {
+                    return hop.toText();
+                }
+                nearest = hop;
+                end = start - 1;
+            }
+        }
+        return nearest.toText();
+    }
+
+    /**
+     * [from, to) 구간의 IP 리터럴 파싱 (앞뒤 공백, IPv4:port, [IPv6]:port, IPv6 zone 허용), 리터럴이 아니면 null
+     */
+    static IpLiteral parse(String s, int from, int to) {
+        while (from < to && isWhitespace(s.charAt(from))) from++;
+        while (to > from && isWhitespace(s.charAt(to - 1))) to--;
+        if (from == to) {
+            return null;
+        }
+
+        if (s.charAt(from) == '[') {
+            int close = indexOf(s, ']', from + 1, to);
+            if (close < 0 || !isPortSuffix(s, close + 1, to)) {
+                return null;
+            }
+            return parseIpv6(s, from + 1, close);
+        }
+
+        int firstColon = indexOf(s, ':', from, to);
+        if (firstColon < 0) {
+            return parseIpv4Literal(s, from, to);
+        }
+        if (indexOf(s, ':', firstColon + 1, to) < 0 && indexOf(s, '.', from, firstColon) >= 0) {
+            // 1.2.3.4:port
+            return isPortSuffix(s, firstColon, to) ? parseIpv4Literal(s, from, firstColon) : null;
+        }
+        return parseIpv6(s, from, to);
+    }
+
+    private static IpLiteral parseIpv4Literal(String s, int from, int to) {
+        long value = parseIpv4(s, from, to);
+        return value >= 0 ? new IpLiteral(s, from, to, true, 0L, value) : null;
+    }
+
+    /**
+     * 점 표기 IPv4 → 32비트 값, 형식 오류면 -1
+     */
+    private static long parseIpv4(String s, int from, int to) {
+        long value = 0;
+        int octets = 0;
+        int i = from;
+        while (true) {
+            int digits = 0;
+            int octet = 0;
+            while (i < to && isDigit(s.charAt(i))) {
+                octet = octet * 10 + (s.charAt(i) - '0');
+                i++;
+                if (++digits > 3) {
+                    return -1;
+                }
+            }
+            if (digits == 0 || octet > 255) {
+                return -1;
+            }
+            value = (value << 8) | octet;
+            octets++;
+            if (i == to) {
+                break;
+            }
+            if (s.charAt(i) != '.' || octets == 4) {
+                return -1;
+            }
+            i++;
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    /**
+     * RFC 4291 텍스트 표기 IPv6 (:: 축약, 끝 IPv4 표기, %zone) → 128비트 값
+     */
+    private static IpLiteral parseIpv6(String s, int from, int to) {
+        int zone = indexOf(s, '%', from, to);
+        if (zone >= 0) {
+            to = zone;
+        }
+        if (to - from < 2) {
+            return null;
+        }
+
+        int[] groups = new int[8];
+        int count = 0;
+        int compressedAt = -1;
+        int i = from;
+
+        if (s.charAt(i) == ':') {
+            if (s.charAt(i + 1) != ':') {
+                return null;
+            }
+            compressedAt = 0;
+            i += 2;
+        }
+        while (i < to) {
+            int groupStart = i;
+            int value = 0;
+            int digits = 0;
+            while (i < to && digits < 5 && hexValue(s.charAt(i)) >= 0) {
+                value = (value << 4) | hexValue(s.charAt(i));
+                digits++;
+                i++;
+            }
+            if (i < to && s.charAt(i) == '.') {
+                // 끝 32비트의 IPv4 표기 (::ffff:192.168.0.1)
+                long ipv4 = parseIpv4(s, groupStart, to);
+                if (ipv4 < 0 || count > 6) {
+                    return null;
+                }
+                groups[count++] = (int) (ipv4 >>> 16);
+                groups[count++] = (int) (ipv4 & 0xffff);
+                break;
+            }
+            if (digits == 0 || digits > 4 || count == 8) {
+                return null;
+            }
+            groups[count++] = value;
+            if (i == to) {
+                break;
+            }
+            if (s.charAt(i) != ':') {
+                return null;
+            }
+            i++;
+            if (i < to && s.charAt(i) == ':') {
+                if (compressedAt >= 0) {
+                    return null;
+                }
+                compressedAt = count;
+                i++;
+            } else if (i == to) {
+                return null;
+            }
+        }
+        if (compressedAt < 0 ? count != 8 : count > 7) {
+            return null;
+        }
+
+        long high = 0;
+        long low = 0;
+        for (int g = 0; g < count; g++) {
+            int position = compressedAt >= 0 && g >= compressedAt ? g + (8 - count) : g;
+            if (position < 4) {
+                high |= (long) groups[g] << (16 * (3 - position));
+            } else {
+                low |= (long) groups[g] << (16 * (7 - position));
+            }
+        }
+        return new IpLiteral(s, from, to, false, high, low);
+    }
 
-        if (remoteAddr == null || remoteAddr.isEmpty()) {
-            remoteAddr = request.getRemoteAddr();
-        } else {
-            // 여러 IP가 포함된 경우 첫 번째 IP 사용
-            remoteAddr = remoteAddr.split(",")[0].trim();
+    private static boolean isPortSuffix(String s, int from, int to) {
+        if (from == to) {
+            return true;
+        }
+        if (s.charAt(from) != ':' || from + 1 == to || to - from > 6) {
+            return false;
         }
+        for (int i = from + 1; i < to; i++) {
+            if (!isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        // IPv6 로컬 주소를 IPv4로 변환 숏컷 (localhost)
-        if ("0:0:0:0:0:0:0:1".equals(remoteAddr) || "::1".equals(remoteAddr)) {
-            return "127.0.0.1";
+    private static int indexOf(String s, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
         }
+        return -1;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * 파싱된 IP 리터럴 (IPv4는 low 하위 32비트, IPv6는 high/low 128비트)
+     */
+    record IpLiteral(String source, int start, int end, boolean ipv4, long high, long low) {
 
-        // IPv6 주소를 IPv4 주소로 변환
-        try {
-            InetAddress inetAddress = InetAddress.getByName(remoteAddr);
-            if (inetAddress instanceof Inet6Address) {
-                byte[] ipv4Bytes = extractIPv4FromIPv6(inetAddress.getAddress());
-                if (ipv4Bytes != null) {
-                    return InetAddress.getByAddress(ipv4Bytes).getHostAddress();
+        boolean isIpv4Mapped() {
+            return !ipv4 && high == 0 && (low >>> 32) == 0xffffL;
+        }
+
+        boolean isIpv6Loopback() {
+            return !ipv4 && high == 0 && low == 1;
+        }
+
+        /**
+         * 로그용 표기: IPv4-mapped는 IPv4로, IPv6 루프백은 127.0.0.1로 변환, 나머지는 원문 그대로
+         */
+        String toText() {
+            if (isIpv6Loopback()) {
+                return LOOPBACK_IPV4;
+            }
+            if (isIpv4Mapped()) {
+                long v4 = low & 0xffffffffL;
+                return new StringBuilder(15)
+                        .append(v4 >>> 24).append('.')
+                        .append((v4 >>> 16) & 0xff).append('.')
+                        .append((v4 >>> 8) & 0xff).append('.')
+                        .append(v4 & 0xff)
+                        .toString();
+            }
+            return start == 0 && end == source.length() ? source : source.substring(start, end);
+        }
+    }
+
+    /**
+     * 신뢰 프록시 목록 (IP 또는 CIDR, 콤마 구분), 기동 시 한 번 파싱
+     */
+    public static final class TrustedProxies {
+
+        public static final TrustedProxies NONE = new TrustedProxies(List.of());
+
+        private final List<Cidr> ranges;
+
+        private TrustedProxies(List<Cidr> ranges) {
+            this.ranges = ranges;
+        }
+
+        public static TrustedProxies parse(String csv) {
+            if (csv == null || csv.isBlank()) {
+                return NONE;
+            }
+            List<Cidr> ranges = new ArrayList<>();
+            for (String entry : csv.split(",")) {
+                String trimmed = entry.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
                 }
+                int slash = trimmed.indexOf('/');
+                IpLiteral address = IpUtil.parse(trimmed, 0, slash >= 0 ? slash : trimmed.length());
+                if (address == null) {
+                    throw new IllegalArgumentException("신뢰 프록시 주소 형식 오류: " + trimmed);
+                }
+                int maxPrefix = address.ipv4() ? 32 : 128;
+                int prefix = slash >= 0 ? Integer.parseInt(trimmed.substring(slash + 1).trim()) : maxPrefix;
+                if (prefix < 0 || prefix > maxPrefix) {
+                    throw new IllegalArgumentException("신뢰 프록시 prefix 범위 오류: " + trimmed);
+                }
+                ranges.add(new Cidr(address.ipv4(), address.high(), address.low(), prefix));
             }
-        } catch (UnknownHostException e) {
-            System.err.print(
-                    e.fillInStackTrace().toString()
-            );
+            return new TrustedProxies(List.copyOf(ranges));
         }
 
-        return remoteAddr;  // IPv4 주소 또는 그 외의 경우
+        public boolean isEmpty() {
+            return ranges.isEmpty();
+        }
+
+        boolean contains(IpLiteral ip) {
+            // IPv4-mapped는 IPv4 범위로 비교
+            boolean ipv4 = ip.ipv4() || ip.isIpv4Mapped();
+            long high = ipv4 ? 0L : ip.high();
+            long low = ipv4 ? ip.low() & 0xffffffffL : ip.low();
+            for (Cidr range : ranges) {
+                if (range.matches(ipv4, high, low)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
-    private static byte[] extractIPv4FromIPv6(byte[] ipv6) {
-        // IPv4로 매핑된 IPv6 주소인지 확인 (예: ::ffff:192.168.0.1)
-        if (ipv6.length == 16) {
-            for (int i = 0; i < 10; i++) {
-                if (ipv6[i] != 0) return null;
+    private record Cidr(boolean ipv4, long high, long low, int prefix) {
+
+        boolean matches(boolean otherIpv4, long otherHigh, long otherLow) {
+            if (ipv4 != otherIpv4) {
+                return false;
             }
-            if (ipv6[10] == (byte) 0xff && ipv6[11] == (byte) 0xff) {
-                byte[] ipv4 = new byte[4];
-                System.arraycopy(ipv6, 12, ipv4, 0, 4);
-                return ipv4;
+            if (ipv4) {
+                long mask = prefix == 0 ? 0L : (0xffffffffL << (32 - prefix)) & 0xffffffffL;
+                return (low & mask) == (otherLow & mask);
             }
+            long highMask = prefix >= 64 ? -1L : prefix == 0 ? 0L : -1L << (64 - prefix);
+            long lowMask = prefix <= 64 ? 0L : prefix == 128 ? -1L : -1L << (128 - prefix);
+            return (high & highMask) == (otherHigh & highMask) && (low & lowMask) == (otherLow & lowMask);
         }
-        return null;
     }
 }
@@ -18,6 +18,9 @@ public class UserProfileDto {
     private OffsetDateTime segmentCalculatedAt;
     private OffsetDateTime behaviorCalculatedAt;
 
+    // 조회 실패로 생성된 기본 프로필 여부 (캐시에 짧게만 보관)
+    private boolean fallback;
+
     // A/B 테스트 그룹 결정 편의 메서드
     public boolean isTreatmentGroup() {
         return userId != null && userId % 2 == 0;
@@ -0,0 +1,219 @@
+package com.three.recipingadsservicebe.targeting.service;
+
+import com.three.recipingadsservicebe.feign.UserFeignClient;
+import com.three.recipingadsservicebe.targeting.dto.UserInfoDto;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔧 사용자 정보 마이크로 배칭 로더
+ * - 프로필 캐시 미스를 batchWindow 동안 모아 다건 조회 1회로 처리
+ * - 수집은 dispatcher 스레드 하나, 실제 호출은 동시성 제한된 fetch 풀에서 수행
+ * - 대기열/풀이 가득 차면 즉시 실패시켜 호출부가 기본 프로필로 처리
+ * - 실제 HTTP 호출은 userService 서킷 브레이커로 감싸 실패/지연을 집계
+ */
+@Slf4j
+@Component
+public class UserProfileBatchLoader {
+
+    private final UserFeignClient userFeignClient;
+    private final CircuitBreaker userServiceCircuitBreaker;
+    private final BlockingQueue<PendingLoad> pendingLoads;
+    private final long batchWindowMs;
+    private final int maxBatchSize;
+    private final int fetchConcurrency;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+    private Thread dispatcherThread;
+    private ThreadPoolExecutor fetchExecutor;
+
+    public UserProfileBatchLoader(UserFeignClient userFeignClient,
+                                  CircuitBreaker userServiceCircuitBreaker,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${ads.user-profile.batch.window-ms:5}") long batchWindowMs,
+                                  @Value("${ads.user-profile.batch.max-size:100}") int maxBatchSize,
+                                  @Value("${ads.user-profile.batch.queue-capacity:5000}") int queueCapacity,
+                                  @Value("${ads.user-profile.batch.fetch-concurrency:4}") int fetchConcurrency) {
+        this.userFeignClient = userFeignClient;
+        this.userServiceCircuitBreaker = userServiceCircuitBreaker;
+        this.pendingLoads = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchWindowMs = batchWindowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.fetchConcurrency = fetchConcurrency;
+
+        this.batchSizeSummary = DistributionSummary.builder("ads_user_profile_batch_size")
+                .description("Distinct user ids resolved per user-service lookup")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ads_user_profile_batch_rejected_total")
+                .description("Profile lookups rejected because the batch loader was saturated")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadSeq = new AtomicInteger();
+        fetchExecutor = new ThreadPoolExecutor(fetchConcurrency, fetchConcurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(fetchConcurrency * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-profile-fetch-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        running = true;
+        dispatcherThread = new Thread(this::runDispatcher, "user-profile-batcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+        if (fetchExecutor != null) {
+            fetchExecutor.shutdown();
+        }
+
+        List<PendingLoad> remaining = new ArrayList<>();
+        pendingLoads.drainTo(remaining);
+        failAll(remaining, new RejectedExecutionException("사용자 정보 배치 로더 종료"));
+    }
+
+    /**
+     * 비동기 단건 조회 요청 (사용자 정보가 없으면 null로 완료)
+     */
+    public CompletableFuture<UserInfoDto> load(Long userId) {
+        PendingLoad pending = new PendingLoad(userId, new CompletableFuture<>());
+        if (!running || !pendingLoads.offer(pending)) {
+            rejectedCounter.increment();
+            pending.future().completeExceptionally(
+                    new RejectedExecutionException("사용자 정보 배치 대기열 포화 - userId: " + userId));
+        }
+        return pending.future();
+    }
+
+    private void runDispatcher() {
+        List<PendingLoad> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingLoad first = pendingLoads.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 요청 이후 batchWindow 동안 또는 maxBatchSize까지 수집
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMs);
+                while (batch.size() < maxBatchSize) {
+                    if (pendingLoads.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingLoad next = pendingLoads.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                dispatch(List.copyOf(batch));
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        failAll(batch, new RejectedExecutionException("사용자 정보 배치 로더 종료"));
+    }
+
+    private void dispatch(List<PendingLoad> batch) {
+        try {
+            fetchExecutor.execute(() -> fetch(batch));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment(batch.size());
+            log.warn("사용자 정보 배치 호출 포화로 거절 - 건수: {}", batch.size());
+            failAll(batch, e);
+        }
+    }
+
+    /**
+     * 배치 단위 조회 및 대기자 완료 처리 (중복 userId는 한 번만 조회)
+     */
+    void fetch(List<PendingLoad> batch) {
+        Map<Long, List<CompletableFuture<UserInfoDto>>> waiters = new LinkedHashMap<>();
+        for (PendingLoad pending : batch) {
+            waiters.computeIfAbsent(pending.userId(), k -> new ArrayList<>()).add(pending.future());
+        }
+        batchSizeSummary.record(waiters.size());
+
+        try {
+            List<Long> userIds = new ArrayList<>(waiters.keySet());
+            Map<Long, UserInfoDto> userInfos = userServiceCircuitBreaker.executeSupplier(() -> fetchUserInfos(userIds));
+            waiters.forEach((userId, futures) -> {
+                UserInfoDto userInfo = userInfos.get(userId);
+                futures.forEach(future -> future.complete(userInfo));
+            });
+            log.debug("사용자 정보 배치 조회 완료 - 요청: {}, 응답: {}", waiters.size(), userInfos.size());
+        } catch (Exception e) {
+            log.error("사용자 정보 배치 조회 실패 - 건수: {}", waiters.size(), e);
+            waiters.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+        }
+    }
+
+    private Map<Long, UserInfoDto> fetchUserInfos(List<Long> userIds) {
+        // 단건이면 기존 단건 API 사용
+        if (userIds.size() == 1) {
+            Long userId = userIds.get(0);
+            UserInfoDto userInfo = userFeignClient.getUserInfo(userId);
+            return userInfo != null ? Map.of(userId, userInfo) : Map.of();
+        }
+
+        List<UserInfoDto> userInfos = userFeignClient.getUserInfos(userIds);
+        Map<Long, UserInfoDto> byUserId = new HashMap<>();
+        if (userInfos != null) {
+            for (UserInfoDto userInfo : userInfos) {
+                if (userInfo != null && userInfo.getUserId() != null) {
+                    byUserId.put(userInfo.getUserId(), userInfo);
+                }
+            }
+        }
+        return byUserId;
+    }
+
+    private static void failAll(List<PendingLoad> loads, Exception cause) {
+        loads.forEach(pending -> pending.future().completeExceptionally(cause));
+    }
+
+    record PendingLoad(Long userId, CompletableFuture<UserInfoDto> future) {
+    }
+}
@@ -1,39 +1,76 @@
 package com.three.recipingadsservicebe.targeting.service;
-import com.three.recipingadsservicebe.feign.UserFeignClient;
+import com.three.recipingadsservicebe.global.config.CacheConfig;
 import com.three.recipingadsservicebe.targeting.dto.UserInfoDto;
 import com.three.recipingadsservicebe.targeting.dto.UserProfileDto;
 import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
 import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
 import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserProfileService {
-    private final UserFeignClient userFeignClient;
+    private final UserProfileBatchLoader userProfileBatchLoader;
+    private final CircuitBreaker userServiceCircuitBreaker;
+    private final Bulkhead userServiceBulkhead;
+    private final TimeLimiter userServiceTimeLimiter;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 🎯 최적화된 사용자 프로필 조회 (캐싱 + Fallback)
+     * 캐시 미스 시 CacheConfig의 로더가 loadUserProfile을 호출하며, 비로그인 사용자는 캐싱하지 않음
      */
-    @Cacheable(value = "userProfiles", key = "#userId", unless = "#result == null")
+    @Cacheable(value = CacheConfig.USER_PROFILES, key = "#userId",
+            condition = "#userId != null", unless = "#result == null")
     public UserProfileDto getUserProfile(Long userId) {
+        return loadUserProfile(userId);
+    }
+
+    /**
+     * 캐시를 거치지 않는 실제 프로필 조회 (캐시 로더/갱신에서 사용)
+     * 동일 userId의 동시 미스/갱신은 Caffeine LoadingCache가 키 단위로 하나의 로드로 합침
+     */
+    public UserProfileDto loadUserProfile(Long userId) {
         if (userId == null) {
             return createGuestProfile();
         }
+        return fetchUserProfile(userId);
+    }
+
+    /**
+     * User 서비스 호출 및 변환 (실패 시 기본 프로필)
+     * 서킷 OPEN/벌크헤드 포화 시 대기 없이 즉시, 응답 지연 시 timeLimiter 시간 내 기본 프로필 반환
+     */
+    private UserProfileDto fetchUserProfile(Long userId) {
+        if (userServiceCircuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            return fallbackProfile(userId, "circuit_open");
+        }
+        if (!userServiceBulkhead.tryAcquirePermission()) {
+            return fallbackProfile(userId, "bulkhead_full");
+        }
 
         try {
             log.debug("사용자 프로필 조회 시작 - userId: {}", userId);
 
-            // 🔧 Feign Client로 User 서비스 호출
-            UserInfoDto userInfo = userFeignClient.getUserInfo(userId);
+            // 🔧 마이크로 배칭 로더를 통해 User 서비스 호출 (동시 미스를 다건 조회로 묶음)
+            UserInfoDto userInfo = userServiceTimeLimiter.executeFutureSupplier(
+                    () -> userProfileBatchLoader.load(userId));
 
             if (userInfo == null) {
                 log.warn("사용자 정보 조회 실패 - userId: {}", userId);
-                return createDefaultProfile(userId);
+                return fallbackProfile(userId, "not_found");
             }
 
             // 🔧 효율적인 변환 로직
@@ -44,12 +81,30 @@ public class UserProfileService {
 
             return profile;
 
+        } catch (TimeoutException e) {
+            log.warn("사용자 프로필 조회 시간 초과 - userId: {}", userId);
+            return fallbackProfile(userId, "timeout");
+        } catch (CallNotPermittedException e) {
+            return fallbackProfile(userId, "circuit_open");
+        } catch (RejectedExecutionException e) {
+            log.warn("사용자 프로필 조회 거절 - userId: {}", userId);
+            return fallbackProfile(userId, "rejected");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallbackProfile(userId, "interrupted");
         } catch (Exception e) {
             log.error("사용자 프로필 조회 중 오류 - userId: {}", userId, e);
-            return createDefaultProfile(userId);
+            return fallbackProfile(userId, "error");
+        } finally {
+            userServiceBulkhead.onComplete();
         }
     }
 
+    private UserProfileDto fallbackProfile(Long userId, String reason) {
+        meterRegistry.counter("ads_user_profile_fallback_total", "reason", reason).increment();
+        return createDefaultProfile(userId);
+    }
+
     /**
      * 🔧 효율적인 UserInfoDto → UserProfileDto 변환
      */
@@ -170,6 +225,7 @@ public class UserProfileService {
                 .demographicSegment(DemographicSegment.UNKNOWN)
                 .engagementLevel(EngagementLevel.CASUAL_USER)
                 .cookingStylePreference(CookingStylePreference.DIVERSE_EXPLORER)
+                .fallback(true)
                 .build();
     }
 }
@@ -0,0 +1,51 @@
+-- ===== 기준 스키마 (H2) =====
+-- postgresql/V1__baseline_schema.sql 과 동일한 구조
+
+CREATE TABLE IF NOT EXISTS advertisers (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    email       VARCHAR(255),
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    modified_at TIMESTAMP(6) WITH TIME ZONE,
+    deleted_at  TIMESTAMP(6) WITH TIME ZONE,
+    is_deleted  BOOLEAN DEFAULT FALSE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS ads (
+    id                         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title                      VARCHAR(255) NOT NULL,
+    ad_type                    VARCHAR(20),
+    image_url                  VARCHAR(500),
+    target_url                 VARCHAR(500),
+    preferred_position         VARCHAR(100),
+    start_at                   TIMESTAMP(6) WITH TIME ZONE,
+    end_at                     TIMESTAMP(6) WITH TIME ZONE,
+    status                     VARCHAR(50),
+    billing_type               VARCHAR(20),
+    budget                     BIGINT,
+    spent_amount               BIGINT,
+    score                      REAL,
+    click_count                BIGINT,
+    impression_count           BIGINT,
+    ab_test_group              VARCHAR(10),
+    scenario_code              VARCHAR(255),
+    target_demographic_segment VARCHAR(50),
+    target_engagement_level    VARCHAR(50),
+    target_cooking_style       VARCHAR(50),
+    created_at                 TIMESTAMP(6) WITH TIME ZONE,
+    modified_at                TIMESTAMP(6) WITH TIME ZONE,
+    deleted_at                 TIMESTAMP(6) WITH TIME ZONE,
+    is_deleted                 BOOLEAN DEFAULT FALSE NOT NULL,
+    advertiser_id              BIGINT NOT NULL REFERENCES advertisers (id)
+);
+
+CREATE TABLE IF NOT EXISTS ab_test_events (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT NOT NULL,
+    scenario_code VARCHAR(50) NOT NULL,
+    ab_test_group VARCHAR(15) NOT NULL,
+    ad_id         BIGINT,
+    event_type    VARCHAR(20) NOT NULL,
+    position      VARCHAR(50) NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
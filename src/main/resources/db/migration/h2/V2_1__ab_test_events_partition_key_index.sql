@@ -0,0 +1,4 @@
+-- ===== V3 파티셔닝 사전 작업 (H2 대체 구현) =====
+-- PostgreSQL은 V3 ATTACH 전에 (id, created_at) 고유 인덱스를 CONCURRENTLY로 미리 만든다.
+-- H2는 파티셔닝을 하지 않으므로(V3 참고) 필요한 인덱스가 없다.
+-- PostgreSQL 마이그레이션과 버전 번호를 맞추기 위한 스크립트로 실행할 DDL은 없다.
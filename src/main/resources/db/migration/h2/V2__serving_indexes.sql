@@ -0,0 +1,11 @@
+-- ===== 서빙 쿼리 전용 인덱스 (H2) =====
+-- H2는 부분 인덱스를 지원하지 않으므로 postgresql/V2__serving_indexes.sql 의 WHERE 절을 뺀 동일 컬럼 구성
+
+CREATE INDEX IF NOT EXISTS idx_ads_servable_end_at
+    ON ads (end_at);
+
+CREATE INDEX IF NOT EXISTS idx_ads_status_end_at
+    ON ads (status, end_at);
+
+CREATE INDEX IF NOT EXISTS idx_ab_test_events_created_group_type
+    ON ab_test_events (created_at, ab_test_group, event_type);
@@ -0,0 +1,5 @@
+-- ===== ab_test_events 보존 기간 (H2 대체 구현) =====
+-- H2는 선언적 파티셔닝을 지원하지 않으므로 테이블 구조는 그대로 두고,
+-- AbTestEventPartitionScheduler 가 보존 기간이 지난 행을 created_at 기준 배치 DELETE로 정리한다.
+-- (created_at 선두 인덱스 idx_ab_test_events_created_group_type 사용, V2에서 생성)
+-- PostgreSQL 마이그레이션과 버전 번호를 맞추기 위한 스크립트로 실행할 DDL은 없다.
@@ -0,0 +1,14 @@
+-- ===== A/B 테스트 분 단위 집계 테이블 (H2) =====
+-- postgresql/V4__ab_test_rollups.sql 과 동일 구성 (백필 제외)
+
+CREATE TABLE IF NOT EXISTS ab_test_rollups (
+    bucket_start  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    scenario_code VARCHAR(50) NOT NULL,
+    ab_test_group VARCHAR(15) NOT NULL,
+    ad_id         BIGINT NOT NULL,
+    position      VARCHAR(50) NOT NULL,
+    impressions   BIGINT NOT NULL DEFAULT 0,
+    clicks        BIGINT NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (bucket_start, scenario_code, ab_test_group, ad_id, position)
+);
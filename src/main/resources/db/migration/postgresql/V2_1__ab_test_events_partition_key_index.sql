@@ -0,0 +1,9 @@
+-- ===== V3 파티셔닝 사전 작업: 파티션 기본 키와 같은 고유 인덱스 =====
+-- V3의 새 부모 테이블은 PRIMARY KEY (id, created_at) 이므로 ATTACH 시 legacy 테이블에 같은 고유 인덱스가 없으면
+-- 전체 테이블에 대해 인덱스를 새로 만들며, 그동안 ACCESS EXCLUSIVE 잠금으로 읽기/쓰기가 모두 대기한다.
+-- 여기서 CONCURRENTLY로 미리 만들어 두면 ATTACH는 이 인덱스를 부모 기본 키의 파티션 인덱스로 연결만 한다.
+-- CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 이 스크립트에는 다른 문장을 두지 않는다
+-- (Flyway가 단독 CONCURRENTLY 문장을 감지해 트랜잭션 없이 실행).
+-- 생성이 중간에 실패하면 INVALID 인덱스가 남으므로, 재시도 전에 DROP INDEX CONCURRENTLY 로 제거해야 한다.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ab_test_events_id_created_at_key
+    ON ab_test_events (id, created_at);
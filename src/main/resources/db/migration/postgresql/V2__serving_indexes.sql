@@ -0,0 +1,17 @@
+-- ===== 서빙 쿼리 전용 인덱스 =====
+-- 포지션/시나리오/타겟팅별 후보 선정은 인메모리 AdServingIndex가 담당하므로 DB 인덱스는 적재/만료 쿼리용만 둔다.
+-- findServableAds는 status = 'ACTIVE' AND is_deleted = false 를 리터럴로 포함하고
+-- @SQLRestriction 으로 deleted_at IS NULL 이 붙으므로, 같은 조건의 부분 인덱스로 송출 가능 광고만 색인한다.
+
+-- 서빙 인덱스 적재 (findServableAds): 종료일 기준 범위 조회
+CREATE INDEX IF NOT EXISTS idx_ads_servable_end_at
+    ON ads (end_at)
+    WHERE status = 'ACTIVE' AND is_deleted = false AND deleted_at IS NULL;
+
+-- 만료 배치 (expireEndedAds): status 가 바인딩 파라미터라 부분 인덱스를 쓸 수 없음
+CREATE INDEX IF NOT EXISTS idx_ads_status_end_at
+    ON ads (status, end_at);
+
+-- A/B 이벤트 기간 집계: 기간 범위 + 그룹/이벤트 유형
+CREATE INDEX IF NOT EXISTS idx_ab_test_events_created_group_type
+    ON ab_test_events (created_at, ab_test_group, event_type);
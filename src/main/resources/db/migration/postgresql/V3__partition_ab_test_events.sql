@@ -0,0 +1,73 @@
+-- ===== ab_test_events 일 단위 RANGE 파티셔닝 =====
+-- 파티션 경계는 Asia/Seoul 자정 (ads.abtest.partition.zone 과 동일해야 함)
+-- 기존 테이블은 복사하지 않고 (MINVALUE, 기존 최신 행 다음 날 자정) 구간의 파티션(ab_test_events_legacy)으로 붙인다.
+-- 운영 중 적재된 오늘 행도 legacy 구간에 포함되도록 상한을 최신 행 이후로 잡고, 일 단위 파티션은 그 상한부터 만든다.
+-- 잠금/비용: 같은 트랜잭션의 RENAME이 ACCESS EXCLUSIVE 잠금을 잡으므로 아래 작업이 끝날 때까지
+-- ab_test_events 읽기/쓰기가 모두 대기한다.
+--  - 부모 기본 키 (id, created_at): V2_1이 CONCURRENTLY로 미리 만든 고유 인덱스로 legacy 기본 키를 교체해
+--    ATTACH가 그 인덱스를 연결만 하게 한다 (없으면 ATTACH가 legacy 전체에 고유 인덱스를 새로 빌드).
+--  - (created_at, ab_test_group, event_type) 인덱스: V2에서 만든 같은 정의의 인덱스가 연결된다.
+--  - 범위 검증: ATTACH가 legacy 테이블을 한 번 순차 스캔한다 (복사/재작성 없음, 테이블 크기에 비례).
+-- 운영 반영 시 V2_1 완료(INVALID 인덱스 없음)를 확인한 뒤 트래픽이 적은 시간대에 V3를 적용한다.
+-- 이후 파티션 생성/보존 기간 경과 파티션 삭제는 AbTestEventPartitionScheduler 가 수행한다.
+
+ALTER TABLE ab_test_events RENAME TO ab_test_events_legacy;
+ALTER INDEX IF EXISTS ab_test_events_pkey RENAME TO ab_test_events_legacy_pkey;
+ALTER INDEX IF EXISTS idx_ab_test_events_created_group_type RENAME TO idx_ab_test_events_legacy_created_group_type;
+
+-- 기본 키를 (id, created_at) 고유 인덱스(V2_1)로 교체 (NOT NULL 컬럼이라 스캔 없이 메타데이터만 변경)
+ALTER TABLE ab_test_events_legacy
+    DROP CONSTRAINT ab_test_events_legacy_pkey,
+    ADD CONSTRAINT ab_test_events_legacy_pkey PRIMARY KEY USING INDEX ab_test_events_id_created_at_key;
+
+CREATE TABLE ab_test_events (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id       BIGINT NOT NULL,
+    scenario_code VARCHAR(50) NOT NULL,
+    ab_test_group VARCHAR(15) NOT NULL,
+    ad_id         BIGINT,
+    event_type    VARCHAR(20) NOT NULL,
+    position      VARCHAR(50) NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    -- 파티션 키는 기본 키에 포함되어야 함
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 파티션마다 동일 인덱스가 생성됨
+CREATE INDEX idx_ab_test_events_created_group_type
+    ON ab_test_events (created_at, ab_test_group, event_type);
+
+DO $$
+DECLARE
+    legacy_end TIMESTAMPTZ;
+    next_id    BIGINT;
+    day_offset INT;
+BEGIN
+    -- legacy 상한: 현재 시각과 기존 최신 행 중 늦은 쪽의 다음 날 Asia/Seoul 자정 (시계가 앞선 행까지 포함)
+    SELECT date_trunc('day', GREATEST(now(), COALESCE(MAX(created_at), now())) AT TIME ZONE 'Asia/Seoul')
+               AT TIME ZONE 'Asia/Seoul' + INTERVAL '1 day'
+    INTO legacy_end
+    FROM ab_test_events_legacy;
+
+    -- 기존 데이터: 새 부모의 IDENTITY와 충돌하지 않도록 식별자 정의만 제거하고 통째로 연결
+    ALTER TABLE ab_test_events_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    EXECUTE format('ALTER TABLE ab_test_events ATTACH PARTITION ab_test_events_legacy '
+                       || 'FOR VALUES FROM (MINVALUE) TO (%L)', legacy_end);
+
+    -- legacy 상한부터 7일치 파티션 선생성 (이후는 스케줄러가 ahead-days 만큼 유지)
+    FOR day_offset IN 0..6 LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF ab_test_events FOR VALUES FROM (%L) TO (%L)',
+                       'ab_test_events_p' || to_char(legacy_end AT TIME ZONE 'Asia/Seoul' + make_interval(days => day_offset), 'YYYYMMDD'),
+                       legacy_end + make_interval(days => day_offset),
+                       legacy_end + make_interval(days => day_offset + 1));
+    END LOOP;
+
+    -- 새 IDENTITY 시퀀스는 기존 최대 id 다음부터
+    SELECT COALESCE(MAX(id), 0) + 1 INTO next_id FROM ab_test_events_legacy;
+    EXECUTE format('ALTER TABLE ab_test_events ALTER COLUMN id RESTART WITH %s', next_id);
+END $$;
+
+-- DEFAULT 파티션은 두지 않는다.
+--  - DETACH PARTITION ... CONCURRENTLY(보존 기간 삭제)는 DEFAULT 파티션이 있는 테이블에서 사용할 수 없다.
+--  - DEFAULT에 행이 쌓이면 같은 날짜 파티션 생성이 실패해 그 행이 보존 기간 정리에서도 빠진다.
+-- 대신 스케줄러가 ahead-days 만큼 미리 만들고, 남은 미래 파티션 수를 ads_abtest_events_future_partitions로 노출한다.
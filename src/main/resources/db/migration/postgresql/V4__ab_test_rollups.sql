@@ -0,0 +1,34 @@
+-- ===== A/B 테스트 분 단위 집계 테이블 =====
+-- 결과 조회는 원본 ab_test_events 대신 이 테이블을 읽는다.
+-- 적재는 애플리케이션(AbTestRollupAggregator)의 증분 upsert로만 수행하며,
+-- ad_id 가 없는 이벤트는 기본 키 구성을 위해 0 으로 저장한다.
+
+CREATE TABLE IF NOT EXISTS ab_test_rollups (
+    bucket_start  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    scenario_code VARCHAR(50) NOT NULL,
+    ab_test_group VARCHAR(15) NOT NULL,
+    ad_id         BIGINT NOT NULL,
+    position      VARCHAR(50) NOT NULL,
+    impressions   BIGINT NOT NULL DEFAULT 0,
+    clicks        BIGINT NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (bucket_start, scenario_code, ab_test_group, ad_id, position)
+);
+
+-- 기존 이벤트 백필 (분 버킷은 애플리케이션과 동일하게 UTC 기준으로 절삭)
+INSERT INTO ab_test_rollups
+    (bucket_start, scenario_code, ab_test_group, ad_id, position, impressions, clicks, updated_at)
+SELECT date_trunc('minute', created_at AT TIME ZONE 'UTC') AT TIME ZONE 'UTC',
+       scenario_code,
+       ab_test_group,
+       COALESCE(ad_id, 0),
+       position,
+       COUNT(*) FILTER (WHERE event_type = 'IMPRESSION'),
+       COUNT(*) FILTER (WHERE event_type = 'CLICK'),
+       now()
+FROM ab_test_events
+GROUP BY 1, 2, 3, 4, 5
+ON CONFLICT (bucket_start, scenario_code, ab_test_group, ad_id, position) DO UPDATE
+SET impressions = ab_test_rollups.impressions + EXCLUDED.impressions,
+    clicks = ab_test_rollups.clicks + EXCLUDED.clicks,
+    updated_at = EXCLUDED.updated_at;
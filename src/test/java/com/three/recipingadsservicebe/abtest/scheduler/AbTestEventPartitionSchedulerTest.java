@@ -0,0 +1,144 @@
+package com.three.recipingadsservicebe.abtest.scheduler;
+
+import com.three.recipingadsservicebe.abtest.repository.AbTestEventPartitionRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository.AbTestRollupDelta;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 🎯 H2 대체 구현(배치 DELETE) 보존 기간 정리 검증
+ * PostgreSQL 파티션 경로는 V3 마이그레이션이 필요하므로 여기서는 파티션 미지원 경로만 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AbTestEventPartitionRepository.class, AbTestRollupJdbcRepository.class})
+@DisplayName("A/B 이벤트 보존 기간 정리 테스트")
+class AbTestEventPartitionSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AbTestEventPartitionRepository partitionRepository;
+
+    @Autowired
+    private AbTestRollupJdbcRepository rollupJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AbTestEventPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 보존 30일, 삭제 배치 7건 (여러 배치로 나눠 삭제되는지 확인)
+        scheduler = new AbTestEventPartitionScheduler(
+                partitionRepository, rollupJdbcRepository, meterRegistry, "Asia/Seoul", 7, 30, 7, 60);
+
+        List<Object[]> events = new ArrayList<>();
+        for (int daysAgo = 0; daysAgo < 60; daysAgo++) {
+            OffsetDateTime createdAt = TODAY.minusDays(daysAgo).atStartOfDay(ZONE).toOffsetDateTime().plusHours(12);
+            events.add(new Object[]{(long) daysAgo, "IMPRESSION", createdAt});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO ab_test_events (user_id, scenario_code, ab_test_group, event_type, position, created_at)
+                VALUES (?, 'CONTROL', 'CONTROL', ?, 'MAIN_TOP', ?)
+                """, events);
+    }
+
+    @Test
+    @DisplayName("✅ 파티션 미지원 DB에서는 보존 기간 이전 행을 배치 삭제")
+    void deletesExpiredRowsInBatches() {
+        // given
+        assertThat(partitionRepository.isPartitioned()).isFalse();
+
+        // when
+        scheduler.applyRetention(TODAY);
+
+        // then: cutoff(30일 전 자정) 이후인 오늘 ~ 30일 전 31건만 유지
+        Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ab_test_events", Integer.class);
+        OffsetDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM ab_test_events", OffsetDateTime.class);
+        assertThat(remaining).isEqualTo(31);
+        assertThat(oldest).isAfterOrEqualTo(TODAY.minusDays(30).atStartOfDay(ZONE).toOffsetDateTime());
+        assertThat(meterRegistry.get("ads_abtest_events_retention_deleted_total").counter().count()).isEqualTo(29.0);
+    }
+
+    @Test
+    @DisplayName("✅ 파티션 미지원 DB에서는 파티션 생성을 건너뜀")
+    void skipsPartitionCreationWithoutPartitioning() {
+        assertThatCode(() -> scheduler.ensurePartitions(TODAY)).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("ads_abtest_events_future_partitions").gauge().value()).isEqualTo(-1.0);
+    }
+
+    @Test
+    @DisplayName("✅ 파티션 생성이 실패해도 오늘 이후 남은 파티션 수를 게이지로 노출")
+    void exposesRemainingFuturePartitions() {
+        // given: 파티션 테이블이지만 생성은 계속 실패하고 어제/오늘/내일 파티션만 남아 있음
+        AbTestEventPartitionRepository failingRepository = new AbTestEventPartitionRepository(jdbcTemplate) {
+            @Override
+            public boolean isPartitioned() {
+                return true;
+            }
+
+            @Override
+            public void createDailyPartition(LocalDate day, ZoneId zone) {
+                throw new IllegalStateException("permission denied");
+            }
+
+            @Override
+            public List<String> findDailyPartitions() {
+                return List.of(partitionName(TODAY.minusDays(1)), partitionName(TODAY), partitionName(TODAY.plusDays(1)));
+            }
+        };
+        SimpleMeterRegistry failingRegistry = new SimpleMeterRegistry();
+        AbTestEventPartitionScheduler failingScheduler =
+                new AbTestEventPartitionScheduler(
+                        failingRepository, rollupJdbcRepository, failingRegistry, "Asia/Seoul", 7, 30, 7, 60);
+
+        // when
+        failingScheduler.ensurePartitions(TODAY);
+
+        // then
+        assertThat(failingRegistry.get("ads_abtest_events_future_partitions").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("✅ 집계 테이블은 집계 보존 기간 이전 버킷만 삭제")
+    void deletesExpiredRollupBuckets() {
+        // given: 오늘 ~ 89일 전 하루 한 버킷씩
+        List<AbTestRollupDelta> deltas = new ArrayList<>();
+        for (int daysAgo = 0; daysAgo < 90; daysAgo++) {
+            OffsetDateTime bucket = TODAY.minusDays(daysAgo).atStartOfDay(ZONE).toOffsetDateTime().plusHours(12);
+            deltas.add(new AbTestRollupDelta(bucket, "CONTROL", AbTestGroup.CONTROL, 1L, "MAIN_TOP", 10, 1));
+        }
+        rollupJdbcRepository.applyDeltas(deltas);
+
+        // when
+        scheduler.applyRollupRetention(TODAY);
+
+        // then: 집계 보존 60일 → 오늘 ~ 60일 전 61건만 유지
+        Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ab_test_rollups", Integer.class);
+        assertThat(remaining).isEqualTo(61);
+        assertThat(meterRegistry.get("ads_abtest_rollup_retention_deleted_total").counter().count()).isEqualTo(29.0);
+    }
+}
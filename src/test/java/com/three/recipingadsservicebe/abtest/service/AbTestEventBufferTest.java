@@ -0,0 +1,66 @@
+package com.three.recipingadsservicebe.abtest.service;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
+import com.three.recipingadsservicebe.abtest.repository.AbTestEventJdbcRepository;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("A/B 이벤트 배치 버퍼 테스트")
+class AbTestEventBufferTest {
+
+    @Mock
+    private AbTestEventJdbcRepository abTestEventJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AbTestEventBuffer abTestEventBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // writer 스레드는 시작하지 않고 drainAndFlush로 직접 적재
+        abTestEventBuffer = new AbTestEventBuffer(abTestEventJdbcRepository, meterRegistry, 2, 10, 50);
+    }
+
+    @Test
+    @DisplayName("✅ 버퍼가 가득 차면 블로킹 없이 드롭하고 카운트")
+    void dropsWhenFull() {
+        assertThat(abTestEventBuffer.offer(impression(1L))).isTrue();
+        assertThat(abTestEventBuffer.offer(impression(2L))).isTrue();
+        assertThat(abTestEventBuffer.offer(impression(3L))).isFalse();
+
+        assertThat(meterRegistry.get("ads_abtest_events_dropped_total").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ads_abtest_events_buffer_size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("✅ 남은 이벤트는 한 번의 다건 INSERT로 적재")
+    void flushesInSingleBatch() {
+        given(abTestEventJdbcRepository.insertAll(anyList())).willReturn(2);
+        abTestEventBuffer.offer(impression(1L));
+        abTestEventBuffer.offer(impression(2L));
+
+        abTestEventBuffer.drainAndFlush();
+
+        then(abTestEventJdbcRepository).should(times(1)).insertAll(anyList());
+        assertThat(meterRegistry.get("ads_abtest_events_flushed_total").counter().count()).isEqualTo(2.0);
+    }
+
+    private AbTestEvent impression(Long adId) {
+        return AbTestEvent.createImpression(2L, "TREATMENT", AbTestGroup.TREATMENT, adId, "MAIN_TOP");
+    }
+}
@@ -0,0 +1,131 @@
+package com.three.recipingadsservicebe.abtest.service;
+
+import com.three.recipingadsservicebe.abtest.dto.AbTestSignificanceDto;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository.AbTestRollupBucketTotals;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository.AbTestRollupTotals;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("A/B 테스트 결과 스냅샷 테스트")
+class AbTestResultTrackerTest {
+
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 6, 1, 3, 15, 30, 0, ZoneOffset.UTC);
+    // settle-minutes 5 → 03:15:30 기준 03:10 이전 버킷 확정, 1분 뒤에는 03:11 이전 확정
+    private static final OffsetDateTime FIRST_SETTLED = OffsetDateTime.of(2025, 6, 1, 3, 10, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime SECOND_SETTLED = FIRST_SETTLED.plusMinutes(1);
+
+    // 03:08 버킷: treatment가 크게 앞섬 / 03:10 버킷: 역전되어 누적 CTR이 같아짐
+    private static final List<AbTestRollupBucketTotals> EARLY_BUCKETS = List.of(
+            bucket(FIRST_SETTLED.minusMinutes(2), "CONTROL", AbTestGroup.CONTROL, 5_000, 50),
+            bucket(FIRST_SETTLED.minusMinutes(2), "TREATMENT", AbTestGroup.TREATMENT, 5_000, 120));
+    private static final List<AbTestRollupBucketTotals> LATE_BUCKETS = List.of(
+            bucket(FIRST_SETTLED, "CONTROL", AbTestGroup.CONTROL, 5_000, 100),
+            bucket(FIRST_SETTLED, "TREATMENT", AbTestGroup.TREATMENT, 5_000, 30));
+
+    @Mock
+    private AbTestRollupRepository abTestRollupRepository;
+
+    @Test
+    @DisplayName("✅ 확정 구간은 워터마크 이후 버킷만 추가로 읽고, 최근 구간은 매번 다시 합산")
+    void readsOnlyNewSettledBucketsOnRefresh() {
+        // given: 각 조회 구간을 정확한 (from, to)로 지정
+        given(abTestRollupRepository.sumByBucketAndGroup(EPOCH, FIRST_SETTLED)).willReturn(EARLY_BUCKETS);
+        given(abTestRollupRepository.sumByScenarioAndGroup(FIRST_SETTLED, NOW.plusDays(1)))
+                .willReturn(List.<AbTestRollupTotals>copyOf(LATE_BUCKETS));
+        given(abTestRollupRepository.sumByBucketAndGroup(FIRST_SETTLED, SECOND_SETTLED)).willReturn(LATE_BUCKETS);
+        given(abTestRollupRepository.sumByScenarioAndGroup(SECOND_SETTLED, NOW.plusMinutes(1).plusDays(1)))
+                .willReturn(List.of());
+        AbTestResultTracker tracker = tracker();
+
+        // when
+        tracker.refresh(NOW);
+        AbTestSignificanceDto first = tracker.getSnapshot();
+        tracker.refresh(NOW.plusMinutes(1));
+        AbTestSignificanceDto second = tracker.getSnapshot();
+
+        // then: 두 시점 모두 확정분 + 미확정분 = 10,000 / 150
+        assertThat(first.getControl().getImpressions()).isEqualTo(10_000);
+        assertThat(first.getTreatment().getClicks()).isEqualTo(150);
+        assertThat(second.getControl().getImpressions()).isEqualTo(10_000);
+        assertThat(second.getTreatment().getClicks()).isEqualTo(150);
+        assertThat(second.getScenarios()).hasSize(2);
+        // 현재 CTR은 같지만 03:08 체크포인트에서 이미 유의했으므로 유지
+        assertThat(second.getCtrDifference()).isZero();
+        assertThat(second.getSequentialPValue()).isLessThan(0.001);
+        assertThat(second.isSignificant()).isTrue();
+    }
+
+    @Test
+    @DisplayName("✅ 재기동한 인스턴스도 같은 버킷 데이터에서 같은 순차 검정 p-value를 계산")
+    void sequentialPValueIsDeterministicAcrossInstances() {
+        // given: 한 인스턴스는 두 번에 나눠, 재기동한 인스턴스는 한 번에 확정 구간을 읽음
+        given(abTestRollupRepository.sumByBucketAndGroup(EPOCH, FIRST_SETTLED)).willReturn(EARLY_BUCKETS);
+        given(abTestRollupRepository.sumByScenarioAndGroup(FIRST_SETTLED, NOW.plusDays(1))).willReturn(List.of());
+        given(abTestRollupRepository.sumByBucketAndGroup(FIRST_SETTLED, SECOND_SETTLED)).willReturn(LATE_BUCKETS);
+        given(abTestRollupRepository.sumByBucketAndGroup(EPOCH, SECOND_SETTLED)).willReturn(
+                List.of(EARLY_BUCKETS.get(0), EARLY_BUCKETS.get(1), LATE_BUCKETS.get(0), LATE_BUCKETS.get(1)));
+        given(abTestRollupRepository.sumByScenarioAndGroup(SECOND_SETTLED, NOW.plusMinutes(1).plusDays(1)))
+                .willReturn(List.of());
+
+        AbTestResultTracker running = tracker();
+        AbTestResultTracker restarted = tracker();
+
+        // when
+        running.refresh(NOW);
+        running.refresh(NOW.plusMinutes(1));
+        restarted.refresh(NOW.plusMinutes(1));
+
+        // then
+        assertThat(restarted.getSnapshot().getSequentialPValue())
+                .isEqualTo(running.getSnapshot().getSequentialPValue());
+        assertThat(restarted.getSnapshot().isSignificant()).isTrue();
+    }
+
+    private AbTestResultTracker tracker() {
+        return new AbTestResultTracker(abTestRollupRepository, 5, 1.96, 0.05, 0.0001);
+    }
+
+    private static AbTestRollupBucketTotals bucket(OffsetDateTime bucketStart, String scenarioCode,
+                                                   AbTestGroup group, long impressions, long clicks) {
+        return new AbTestRollupBucketTotals() {
+            @Override
+            public OffsetDateTime getBucketStart() {
+                return bucketStart;
+            }
+
+            @Override
+            public String getScenarioCode() {
+                return scenarioCode;
+            }
+
+            @Override
+            public AbTestGroup getAbGroup() {
+                return group;
+            }
+
+            @Override
+            public Long getImpressions() {
+                return impressions;
+            }
+
+            @Override
+            public Long getClicks() {
+                return clicks;
+            }
+        };
+    }
+}
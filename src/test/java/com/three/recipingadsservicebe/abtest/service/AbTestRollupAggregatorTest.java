@@ -0,0 +1,114 @@
+package com.three.recipingadsservicebe.abtest.service;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupJdbcRepository.AbTestRollupDelta;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("A/B 테스트 분 단위 집계 테스트")
+class AbTestRollupAggregatorTest {
+
+    private static final OffsetDateTime BUCKET = OffsetDateTime.of(2025, 6, 1, 3, 15, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private AbTestRollupJdbcRepository abTestRollupJdbcRepository;
+
+    @Captor
+    private ArgumentCaptor<List<AbTestRollupDelta>> deltasCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AbTestRollupAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new AbTestRollupAggregator(abTestRollupJdbcRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 분/시나리오/그룹/광고/포지션 이벤트를 하나의 델타로 합산")
+    void collapsesEventsIntoMinuteBuckets() {
+        // given (KST 12:15:xx == UTC 03:15)
+        OffsetDateTime kst = BUCKET.plusSeconds(10).withOffsetSameInstant(ZoneOffset.ofHours(9));
+        aggregator.record(event("IMPRESSION", 7L, kst));
+        aggregator.record(event("IMPRESSION", 7L, BUCKET.plusSeconds(59)));
+        aggregator.record(event("CLICK", 7L, BUCKET.plusSeconds(30)));
+        aggregator.record(event("IMPRESSION", null, BUCKET));
+
+        // when
+        aggregator.flush();
+
+        // then
+        then(abTestRollupJdbcRepository).should().applyDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).containsExactlyInAnyOrder(
+                new AbTestRollupDelta(BUCKET, "SCENARIO_A", AbTestGroup.TREATMENT, 7L, "MAIN_TOP", 2, 1),
+                new AbTestRollupDelta(BUCKET, "SCENARIO_A", AbTestGroup.TREATMENT, 0L, "MAIN_TOP", 1, 0));
+    }
+
+    @Test
+    @DisplayName("✅ 반영 실패 시 증분을 유지하여 다음 주기에 재시도")
+    void keepsDeltasWhenFlushFails() {
+        // given
+        willThrow(new RuntimeException("db down")).willDoNothing()
+                .given(abTestRollupJdbcRepository).applyDeltas(anyList());
+        aggregator.record(event("CLICK", 7L, BUCKET));
+
+        // when
+        aggregator.flush();
+        aggregator.flush();
+
+        // then
+        then(abTestRollupJdbcRepository).should(times(2)).applyDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getAllValues().get(1)).containsExactly(
+                new AbTestRollupDelta(BUCKET, "SCENARIO_A", AbTestGroup.TREATMENT, 7L, "MAIN_TOP", 0, 1));
+        assertThat(meterRegistry.get("ads_abtest_rollup_flush_failed_total").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("✅ 반영이 끝난 지난 분 버킷은 메모리에서 제거하고 현재 버킷은 유지")
+    void evictsIdlePastBuckets() {
+        // given
+        aggregator.record(event("IMPRESSION", 7L, BUCKET));
+        aggregator.record(event("IMPRESSION", 7L, OffsetDateTime.now()));
+
+        // when
+        aggregator.flush();
+
+        // then
+        then(abTestRollupJdbcRepository).should().applyDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).hasSize(2);
+        assertThat(meterRegistry.get("ads_abtest_rollup_keys").gauge().value()).isEqualTo(1.0);
+    }
+
+    private AbTestEvent event(String eventType, Long adId, OffsetDateTime createdAt) {
+        return AbTestEvent.builder()
+                .userId(1L)
+                .scenarioCode("SCENARIO_A")
+                .abTestGroup(AbTestGroup.TREATMENT)
+                .adId(adId)
+                .eventType(eventType)
+                .position("MAIN_TOP")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.three.recipingadsservicebe.abtest.service;
+
+import com.three.recipingadsservicebe.abtest.entity.AbTestEvent;
+import com.three.recipingadsservicebe.abtest.repository.AbTestEventRepository;
+import com.three.recipingadsservicebe.abtest.repository.AbTestRollupRepository;
+import com.three.recipingadsservicebe.ad.enums.AbTestGroup;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("A/B 테스트 클릭 집계 반영 시점 테스트")
+class AbTestServiceTest {
+
+    @InjectMocks
+    private AbTestService abTestService;
+
+    @Mock
+    private AbTestEventRepository abTestEventRepository;
+
+    @Mock
+    private AbTestEventBuffer abTestEventBuffer;
+
+    @Mock
+    private AbTestRollupAggregator abTestRollupAggregator;
+
+    @Mock
+    private AbTestRollupRepository abTestRollupRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 클릭은 트랜잭션 커밋 이후에만 집계에 반영")
+    void clickIsAggregatedAfterCommit() {
+        // given: 트랜잭션 진행 중
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        abTestService.recordClick(2L, "TREATMENT", AbTestGroup.TREATMENT, 10L, AdPosition.MAIN_TOP);
+
+        // then: 커밋 전에는 집계하지 않음
+        then(abTestEventRepository).should().save(any(AbTestEvent.class));
+        then(abTestRollupAggregator).should(never()).record(any());
+
+        // when: 커밋
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        then(abTestRollupAggregator).should().record(any(AbTestEvent.class));
+    }
+
+    @Test
+    @DisplayName("✅ 롤백되면 클릭이 집계에 반영되지 않음")
+    void rolledBackClickIsNotAggregated() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when: 롤백 완료
+        abTestService.recordClick(2L, "TREATMENT", AbTestGroup.TREATMENT, 10L, AdPosition.MAIN_TOP);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        then(abTestRollupAggregator).should(never()).record(any());
+    }
+}
@@ -0,0 +1,74 @@
+package com.three.recipingadsservicebe.abtest.stats;
+
+import com.three.recipingadsservicebe.abtest.stats.AbTestSignificanceCalculator.Comparison;
+import com.three.recipingadsservicebe.abtest.stats.AbTestSignificanceCalculator.Interval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.three.recipingadsservicebe.abtest.stats.AbTestSignificanceCalculator.Z_95;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("A/B 테스트 유의성 계산 테스트")
+class AbTestSignificanceCalculatorTest {
+
+    private static final double TAU2 = 0.0001;
+
+    @Test
+    @DisplayName("✅ 클릭 0건이어도 Wilson 신뢰구간은 [0, 1] 범위의 양수 폭 유지")
+    void wilsonIntervalStaysInRange() {
+        // when
+        Interval noClicks = AbTestSignificanceCalculator.wilsonInterval(0, 100, Z_95);
+        Interval noImpressions = AbTestSignificanceCalculator.wilsonInterval(0, 0, Z_95);
+        Interval typical = AbTestSignificanceCalculator.wilsonInterval(100, 10_000, Z_95);
+
+        // then
+        assertThat(noClicks.lower()).isCloseTo(0.0, within(1e-12));
+        assertThat(noClicks.upper()).isCloseTo(0.037, within(0.001));
+        assertThat(noImpressions).isEqualTo(new Interval(0.0, 1.0));
+        assertThat(typical.lower()).isLessThan(0.01);
+        assertThat(typical.upper()).isGreaterThan(0.01);
+    }
+
+    @Test
+    @DisplayName("✅ CTR 1% → 2%: lift 100%, 신뢰구간이 0을 포함하지 않고 p-value 유의")
+    void detectsClearLift() {
+        // when
+        Comparison comparison = AbTestSignificanceCalculator.compare(10_000, 100, 10_000, 200, Z_95, TAU2);
+
+        // then
+        assertThat(comparison.absoluteDifference()).isCloseTo(0.01, within(1e-9));
+        assertThat(comparison.differenceInterval().lower()).isPositive();
+        assertThat(comparison.lift()).isCloseTo(1.0, within(1e-9));
+        assertThat(comparison.liftInterval().lower()).isPositive();
+        assertThat(comparison.liftInterval().upper()).isGreaterThan(1.0);
+        assertThat(comparison.pValue()).isLessThan(0.001);
+    }
+
+    @Test
+    @DisplayName("✅ 고정 표본 z검정 경계(p≈0.05) 수준의 차이는 순차 검정에서 유의하지 않음")
+    void sequentialPValueIsConservativeAtTheBoundary() {
+        // when
+        Comparison comparison = AbTestSignificanceCalculator.compare(10_000, 100, 10_000, 130, Z_95, TAU2);
+
+        // then (차이 신뢰구간은 0을 간신히 배제하지만 always-valid p-value는 여전히 큼)
+        assertThat(comparison.differenceInterval().lower()).isPositive();
+        assertThat(comparison.pValue()).isGreaterThan(0.05);
+    }
+
+    @Test
+    @DisplayName("✅ 데이터가 없거나 차이가 없으면 p-value 1, control 클릭 0이면 lift 미정의")
+    void handlesDegenerateCounts() {
+        // when
+        Comparison empty = AbTestSignificanceCalculator.compare(0, 0, 0, 0, Z_95, TAU2);
+        Comparison same = AbTestSignificanceCalculator.compare(1_000, 10, 1_000, 10, Z_95, TAU2);
+        Comparison noControlClicks = AbTestSignificanceCalculator.compare(1_000, 0, 1_000, 5, Z_95, TAU2);
+
+        // then
+        assertThat(empty.pValue()).isEqualTo(1.0);
+        assertThat(empty.lift()).isNull();
+        assertThat(same.pValue()).isEqualTo(1.0);
+        assertThat(same.lift()).isZero();
+        assertThat(noControlClicks.lift()).isNull();
+        assertThat(noControlClicks.liftInterval()).isNull();
+    }
+}
@@ -0,0 +1,76 @@
+package com.three.recipingadsservicebe.ad.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.event.AdChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("서빙 응답 JSON 조각 캐시 테스트")
+class AdServeFragmentCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AdServeFragmentCache adServeFragmentCache = new AdServeFragmentCache(objectMapper, 1000);
+
+    @Test
+    @DisplayName("✅ 응답 본문은 서빙 필드만 담고 관리자 필드는 제외")
+    void bodyContainsLeanFieldsOnly() throws Exception {
+        // given
+        Map<String, List<Ad>> adsByPosition = new LinkedHashMap<>();
+        adsByPosition.put(AdPosition.MAIN_TOP.name(), List.of(ad(1L, "첫 광고"), ad(2L, "둘째 \"광고\"")));
+        adsByPosition.put(AdPosition.MAIN_MIDDLE.name(), List.of());
+
+        // when
+        JsonNode body = objectMapper.readTree(adServeFragmentCache.body(adsByPosition));
+
+        // then
+        assertThat(body.get("totalCount").asInt()).isEqualTo(2);
+        JsonNode first = body.get("ads").get("MAIN_TOP").get(0);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("title").asText()).isEqualTo("첫 광고");
+        assertThat(first.has("budget")).isFalse();
+        assertThat(first.has("spentAmount")).isFalse();
+        assertThat(first.has("targetDemographicSegment")).isFalse();
+        assertThat(body.get("ads").get("MAIN_TOP").get(1).get("title").asText()).isEqualTo("둘째 \"광고\"");
+        assertThat(body.get("ads").get("MAIN_MIDDLE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 같은 엔티티는 재사용, 새 엔티티이거나 변경 이벤트 후에는 재렌더링")
+    void rendersOncePerEntityVersion() {
+        // given
+        Ad original = ad(1L, "원본");
+        byte[] rendered = adServeFragmentCache.adFragment(original);
+
+        // when & then: 같은 인스턴스면 캐시된 바이트 그대로
+        assertThat(adServeFragmentCache.adFragment(original)).isSameAs(rendered);
+
+        // when & then: 인덱스가 수정된 엔티티로 교체되면 재렌더링
+        Ad updated = ad(1L, "수정");
+        assertThat(new String(adServeFragmentCache.adFragment(updated), StandardCharsets.UTF_8)).contains("수정");
+
+        // when & then: 변경 이벤트로 제거되면 다음 조회에서 재렌더링
+        byte[] beforeEvict = adServeFragmentCache.adFragment(updated);
+        adServeFragmentCache.onAdChanged(new AdChangedEvent(1L));
+        assertThat(adServeFragmentCache.adFragment(updated)).isNotSameAs(beforeEvict).isEqualTo(beforeEvict);
+    }
+
+    private Ad ad(Long id, String title) {
+        return Ad.builder()
+                .id(id)
+                .title(title)
+                .preferredPosition(AdPosition.MAIN_TOP)
+                .budget(1000L)
+                .spentAmount(10L)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.three.recipingadsservicebe.ad.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.index.AdServingIndex;
+import com.three.recipingadsservicebe.ad.service.AdRecommendationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("비개인화 서빙 응답 캐시 테스트")
+class AdServePayloadCacheTest {
+
+    @Mock
+    private AdRecommendationService adRecommendationService;
+
+    @Mock
+    private AdServingIndex adServingIndex;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AdServePayloadCache adServePayloadCache;
+
+    @BeforeEach
+    void setUp() {
+        adServePayloadCache = new AdServePayloadCache(adRecommendationService, adServingIndex,
+                new AdServeFragmentCache(objectMapper, 1000), new SimpleMeterRegistry(), 60_000, 2);
+    }
+
+    @Test
+    @DisplayName("✅ 캐시된 조각을 이어 붙인 본문이 기존 응답 구조와 동일")
+    void assemblesServeResponse() throws Exception {
+        // given
+        given(adRecommendationService.selectRandomAds(AdPosition.MAIN_TOP)).willReturn(List.of(ad(1L), ad(2L)));
+        given(adRecommendationService.selectRandomAds(AdPosition.MAIN_MIDDLE)).willReturn(List.of());
+
+        // when
+        AdServePayloadCache.ServePayload payload = adServePayloadCache.get();
+
+        // then
+        JsonNode body = objectMapper.readTree(payload.body());
+        assertThat(body.get("totalCount").asInt()).isEqualTo(2);
+        assertThat(body.get("message").asText()).isEqualTo("광고 서빙 완료");
+        assertThat(body.get("ads").get("MAIN_TOP")).hasSize(2);
+        assertThat(body.get("ads").get("MAIN_TOP").get(0).get("id").asLong()).isEqualTo(1L);
+        assertThat(body.get("ads").get("MAIN_MIDDLE")).isEmpty();
+        assertThat(payload.adsByPosition().get("MAIN_TOP")).extracting(Ad::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("✅ TTL 안에서는 재추출하지 않고 인덱스 버전이 바뀌면 재추출")
+    void reusesVariantsUntilIndexChanges() {
+        // given
+        given(adRecommendationService.selectRandomAds(any())).willReturn(List.of(ad(1L)));
+        given(adServingIndex.version()).willReturn(1L);
+
+        // when
+        adServePayloadCache.get();
+        adServePayloadCache.get();
+
+        // then: 포지션별 variants(2)만큼만 추출
+        then(adRecommendationService).should(times(2 * AdPosition.values().length)).selectRandomAds(any());
+
+        // when: 광고 변경으로 인덱스 재구성
+        given(adServingIndex.version()).willReturn(2L);
+        adServePayloadCache.get();
+
+        // then
+        then(adRecommendationService).should(times(4 * AdPosition.values().length)).selectRandomAds(any());
+    }
+
+    private Ad ad(Long id) {
+        return Ad.builder()
+                .id(id)
+                .title("ad-" + id)
+                .preferredPosition(AdPosition.MAIN_TOP)
+                .score(1f)
+                .clickCount(0L)
+                .impressionCount(0L)
+                .createdAt(OffsetDateTime.parse("2024-09-01T00:00:00+09:00"))
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.three.recipingadsservicebe.ad.counter;
+
+import com.three.recipingadsservicebe.ad.repository.AdCounterJdbcRepository;
+import com.three.recipingadsservicebe.ad.repository.AdCounterJdbcRepository.AdCounterDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("광고 카운터 write-behind 테스트")
+class AdCounterStoreTest {
+
+    @Mock
+    private AdCounterJdbcRepository adCounterJdbcRepository;
+
+    @Captor
+    private ArgumentCaptor<List<AdCounterDelta>> deltasCaptor;
+
+    private AdCounterStore adCounterStore;
+
+    @BeforeEach
+    void setUp() {
+        adCounterStore = new AdCounterStore(adCounterJdbcRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("✅ 누적된 증분을 광고별 하나의 델타로 반영")
+    void flushesAccumulatedDeltas() {
+        adCounterStore.recordImpression(1L);
+        adCounterStore.recordImpression(1L);
+        adCounterStore.recordClick(1L);
+
+        adCounterStore.flush();
+
+        then(adCounterJdbcRepository).should().applyDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).containsExactly(new AdCounterDelta(1L, 2, 1));
+    }
+
+    @Test
+    @DisplayName("✅ 반영 실패 시 증분을 유지하여 다음 주기에 재시도")
+    void keepsDeltasWhenFlushFails() {
+        willThrow(new RuntimeException("db down")).willDoNothing()
+                .given(adCounterJdbcRepository).applyDeltas(anyList());
+        adCounterStore.recordImpression(1L);
+
+        adCounterStore.flush();
+        adCounterStore.flush();
+
+        then(adCounterJdbcRepository).should(times(2)).applyDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getAllValues().get(1)).containsExactly(new AdCounterDelta(1L, 1, 0));
+    }
+}
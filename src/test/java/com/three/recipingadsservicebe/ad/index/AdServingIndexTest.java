@@ -0,0 +1,176 @@
+package com.three.recipingadsservicebe.ad.index;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import com.three.recipingadsservicebe.ad.ranking.AdMatchTier;
+import com.three.recipingadsservicebe.ad.repository.AdRepository;
+import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
+import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
+import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("서빙 인덱스 테스트")
+class AdServingIndexTest {
+
+    @Mock
+    private AdRepository adRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private AtomicInteger activeAdsGauge;
+    private AdServingIndex adServingIndex;
+
+    @BeforeEach
+    void setUp() {
+        activeAdsGauge = new AtomicInteger();
+        adServingIndex = new AdServingIndex(adRepository, activeAdsGauge, taskScheduler);
+    }
+
+    @Test
+    @DisplayName("✅ 완전 매치가 있으면 세 차원이 모두 일치하는 광고만 점수순으로 반환")
+    void perfectMatchOrderedByScore() {
+        Ad low = ad(1L, "TREATMENT", 1f, DemographicSegment.FEMALE_TWENTIES,
+                EngagementLevel.HIGH_ACTIVE, CookingStylePreference.HEALTH_CONSCIOUS);
+        Ad high = ad(2L, "TREATMENT", 5f, DemographicSegment.FEMALE_TWENTIES,
+                EngagementLevel.HIGH_ACTIVE, CookingStylePreference.HEALTH_CONSCIOUS);
+        Ad other = ad(3L, "TREATMENT", 9f, DemographicSegment.MALE_TWENTIES,
+                EngagementLevel.HIGH_ACTIVE, CookingStylePreference.HEALTH_CONSCIOUS);
+
+        adServingIndex.replaceAll(List.of(low, high, other));
+
+        AdServingIndex.TargetedMatch result = adServingIndex.findTargetedMatches(AdPosition.MAIN_TOP, "TREATMENT",
+                DemographicSegment.FEMALE_TWENTIES, EngagementLevel.HIGH_ACTIVE,
+                CookingStylePreference.HEALTH_CONSCIOUS, 3);
+
+        assertThat(result.bestTier()).isEqualTo(AdMatchTier.PERFECT);
+        assertThat(result.ads()).extracting(Ad::getId).containsExactly(2L, 1L);
+        assertThat(activeAdsGauge.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("✅ 완전 매치가 없으면 요리스타일 → 참여도 → 인구통계 → 미타겟팅 순으로 상위 K건")
+    void partialMatchOrderedByTier() {
+        Ad untargeted = ad(1L, "TREATMENT", 9f, null, null, null);
+        Ad demographic = ad(2L, "TREATMENT", 8f, DemographicSegment.FEMALE_TWENTIES, null, null);
+        Ad cooking = ad(3L, "TREATMENT", 1f, null, null, CookingStylePreference.HEALTH_CONSCIOUS);
+        Ad unmatched = ad(4L, "TREATMENT", 9f, DemographicSegment.MALE_FORTIES, null, null);
+        Ad otherScenario = ad(5L, "CONTROL", 9f, null, null, CookingStylePreference.HEALTH_CONSCIOUS);
+
+        adServingIndex.replaceAll(List.of(untargeted, demographic, cooking, unmatched, otherScenario));
+
+        AdServingIndex.TargetedMatch result = adServingIndex.findTargetedMatches(AdPosition.MAIN_TOP, "TREATMENT",
+                DemographicSegment.FEMALE_TWENTIES, EngagementLevel.CASUAL_USER,
+                CookingStylePreference.HEALTH_CONSCIOUS, 2);
+
+        assertThat(result.bestTier()).isEqualTo(AdMatchTier.COOKING_STYLE);
+        assertThat(result.ads()).extracting(Ad::getId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("✅ 매치 후보가 없으면 빈 결과")
+    void noTargetedMatch() {
+        adServingIndex.replaceAll(List.of(ad(1L, "TREATMENT", 1f, DemographicSegment.MALE_FORTIES, null, null)));
+
+        AdServingIndex.TargetedMatch result = adServingIndex.findTargetedMatches(AdPosition.MAIN_TOP, "TREATMENT",
+                DemographicSegment.FEMALE_TWENTIES, EngagementLevel.CASUAL_USER,
+                CookingStylePreference.HEALTH_CONSCIOUS, 3);
+
+        assertThat(result.ads()).isEmpty();
+        assertThat(result.bestTier()).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 송출 불가로 바뀐 광고는 단건 갱신 시 제거")
+    void refreshRemovesUnservableAd() {
+        Ad control = ad(1L, "CONTROL", 1f, null, null, null);
+        adServingIndex.replaceAll(List.of(control));
+        given(adRepository.findServableAdById(1L)).willReturn(Optional.empty());
+
+        adServingIndex.refresh(1L);
+
+        assertThat(adServingIndex.findByScenario("CONTROL", AdPosition.MAIN_TOP)).isEmpty();
+        assertThat(activeAdsGauge.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 포지션 추출 풀은 시나리오와 무관하게 유지되고 변경 시 재구성")
+    void positionPoolFollowsChanges() {
+        List<Ad> ads = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            ads.add(ad(id, id % 2 == 0 ? "TREATMENT" : null, 1f, null, null, null));
+        }
+        adServingIndex.replaceAll(ads);
+
+        assertThat(adServingIndex.samplingPoolForPosition(AdPosition.MAIN_TOP).ads()).hasSize(10);
+        assertThat(adServingIndex.samplingPoolForScenario("TREATMENT", AdPosition.MAIN_TOP).ads()).hasSize(5);
+        assertThat(adServingIndex.samplingPoolForPosition(AdPosition.MAIN_MIDDLE).isEmpty()).isTrue();
+
+        adServingIndex.remove(2L);
+
+        assertThat(adServingIndex.findByPosition(AdPosition.MAIN_TOP)).hasSize(9);
+        assertThat(adServingIndex.samplingPoolForScenario("TREATMENT", AdPosition.MAIN_TOP).ads())
+                .extracting(Ad::getId).doesNotContain(2L);
+    }
+
+    @Test
+    @DisplayName("✅ 기간 밖 광고는 서빙에서 제외하고 가장 가까운 시작 시각에 재구성 예약")
+    void schedulesRebuildAtNextWindowBoundary() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Ad running = ad(1L, "CONTROL", 1f, null, null, null);
+        Ad startsSoon = Ad.builder().id(2L).preferredPosition(AdPosition.MAIN_TOP).status(AdStatus.ACTIVE)
+                .scenarioCode("CONTROL").startAt(now.plusMinutes(5)).endAt(now.plusDays(1)).build();
+        Ad startsLater = Ad.builder().id(3L).preferredPosition(AdPosition.MAIN_TOP).status(AdStatus.ACTIVE)
+                .scenarioCode("CONTROL").startAt(now.plusHours(1)).build();
+        Ad ended = Ad.builder().id(4L).preferredPosition(AdPosition.MAIN_TOP).status(AdStatus.ACTIVE)
+                .scenarioCode("CONTROL").endAt(now.minusMinutes(1)).build();
+
+        adServingIndex.replaceAll(List.of(running, startsSoon, startsLater, ended));
+
+        assertThat(adServingIndex.findByScenario("CONTROL", AdPosition.MAIN_TOP))
+                .extracting(Ad::getId).containsExactly(1L);
+        assertThat(activeAdsGauge.get()).isEqualTo(1);
+        assertThat(adServingIndex.size()).isEqualTo(3);
+        then(taskScheduler).should().schedule(any(Runnable.class), eq(startsSoon.getStartAt().toInstant()));
+    }
+
+    private Ad ad(Long id, String scenarioCode, float score,
+                  DemographicSegment demographic, EngagementLevel engagement,
+                  CookingStylePreference cookingStyle) {
+        return Ad.builder()
+                .id(id)
+                .title("ad-" + id)
+                .preferredPosition(AdPosition.MAIN_TOP)
+                .status(AdStatus.ACTIVE)
+                .score(score)
+                .clickCount(0L)
+                .impressionCount(0L)
+                .isDeleted(false)
+                .scenarioCode(scenarioCode)
+                .targetDemographicSegment(demographic)
+                .targetEngagementLevel(engagement)
+                .targetCookingStyle(cookingStyle)
+                .createdAt(OffsetDateTime.now())
+                .build();
+    }
+}
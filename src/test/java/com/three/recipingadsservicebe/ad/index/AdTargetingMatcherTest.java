@@ -0,0 +1,100 @@
+package com.three.recipingadsservicebe.ad.index;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.ranking.AdMatchTier;
+import com.three.recipingadsservicebe.ad.ranking.AdTopKSelector;
+import com.three.recipingadsservicebe.targeting.enums.CookingStylePreference;
+import com.three.recipingadsservicebe.targeting.enums.DemographicSegment;
+import com.three.recipingadsservicebe.targeting.enums.EngagementLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("비트셋 타겟팅 매처 테스트")
+class AdTargetingMatcherTest {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2024-09-01T00:00:00+09:00");
+
+    @Test
+    @DisplayName("✅ 매치 등급별 상위 K건이 광고별 등급 계산 결과와 동일")
+    void matchesPerAdTierEvaluation() {
+        // given: 64비트 워드 경계를 여러 번 넘는 후보, 차원별 미지정(null) 포함
+        Random random = new Random(7);
+        List<Ad> candidates = randomAds(random, 1000);
+        AdTargetingMatcher matcher = new AdTargetingMatcher(candidates);
+
+        for (int i = 0; i < 200; i++) {
+            DemographicSegment demographic = pick(random, DemographicSegment.values());
+            EngagementLevel engagement = pick(random, EngagementLevel.values());
+            CookingStylePreference cookingStyle = pick(random, CookingStylePreference.values());
+            int limit = 1 + random.nextInt(20);
+
+            // when
+            AdServingIndex.TargetedMatch result = matcher.match(demographic, engagement, cookingStyle, limit);
+
+            // then
+            List<Ad> expected = AdTopKSelector.selectTopKByTier(candidates, limit, ad -> {
+                AdMatchTier tier = AdMatchTier.of(ad, demographic, engagement, cookingStyle);
+                return tier != null ? tier.ordinal() : -1;
+            });
+            AdMatchTier expectedTier = expected.isEmpty() ? null
+                    : AdMatchTier.of(expected.get(0), demographic, engagement, cookingStyle);
+            if (expectedTier == AdMatchTier.PERFECT) {
+                expected = expected.stream()
+                        .filter(ad -> AdMatchTier.of(ad, demographic, engagement, cookingStyle) == AdMatchTier.PERFECT)
+                        .toList();
+            }
+            assertThat(result.bestTier()).isEqualTo(expectedTier);
+            assertThat(result.ads()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 빈 버킷과 미지정 프로필은 미타겟팅 광고만 매치")
+    void emptyAndUnknownProfile() {
+        Ad untargeted = ad(1L, 1f, null, null, null);
+        Ad targeted = ad(2L, 9f, DemographicSegment.MALE_FORTIES, null, null);
+        AdTargetingMatcher matcher = new AdTargetingMatcher(List.of(untargeted, targeted));
+
+        AdServingIndex.TargetedMatch result = matcher.match(null, null, null, 3);
+
+        assertThat(result.bestTier()).isEqualTo(AdMatchTier.UNTARGETED);
+        assertThat(result.ads()).containsExactly(untargeted);
+        assertThat(AdTargetingMatcher.EMPTY.match(null, null, null, 3).ads()).isEmpty();
+    }
+
+    private List<Ad> randomAds(Random random, int count) {
+        List<Ad> ads = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            ads.add(ad(id, (float) random.nextInt(10),
+                    random.nextInt(3) == 0 ? null : pick(random, DemographicSegment.values()),
+                    random.nextInt(3) == 0 ? null : pick(random, EngagementLevel.values()),
+                    random.nextInt(3) == 0 ? null : pick(random, CookingStylePreference.values())));
+        }
+        return ads;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private Ad ad(Long id, float score, DemographicSegment demographic,
+                  EngagementLevel engagement, CookingStylePreference cookingStyle) {
+        return Ad.builder()
+                .id(id)
+                .score(score)
+                .clickCount(id % 4)
+                .impressionCount(100L)
+                .targetDemographicSegment(demographic)
+                .targetEngagementLevel(engagement)
+                .targetCookingStyle(cookingStyle)
+                .createdAt(BASE_TIME.minusMinutes(id % 50))
+                .build();
+    }
+}
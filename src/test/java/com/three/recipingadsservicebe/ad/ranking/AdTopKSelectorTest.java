@@ -0,0 +1,93 @@
+package com.three.recipingadsservicebe.ad.ranking;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("광고 상위 K건 선택기 테스트")
+class AdTopKSelectorTest {
+
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2024-09-01T00:00:00+09:00");
+
+    @Test
+    @DisplayName("✅ 전체 정렬 후 limit한 결과와 동일")
+    void matchesFullSort() {
+        // given: 점수/CTR 동점이 많이 섞인 후보
+        Random random = new Random(42);
+        List<Ad> candidates = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            long impressions = random.nextInt(5) * 100L;
+            candidates.add(ad(id, (float) random.nextInt(10), impressions,
+                    impressions == 0 ? 0L : random.nextInt(3) * 10L, random.nextInt(50)));
+        }
+        Comparator<Ad> fullSortOrder = Comparator
+                .comparing((Ad ad) -> ad.getScore() != null ? ad.getScore() : 0f, Comparator.reverseOrder())
+                .thenComparing(Ad::calculateCTR, Comparator.reverseOrder())
+                .thenComparing(Ad::getCreatedAt, Comparator.reverseOrder());
+
+        for (int k : new int[]{1, 3, 50}) {
+            // when
+            List<Ad> selected = AdTopKSelector.selectTopK(candidates, k);
+
+            // then
+            List<Ad> expected = candidates.stream().sorted(fullSortOrder).limit(k).toList();
+            assertThat(selected).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 필터를 통과한 후보만 선택하고 후보가 k보다 적으면 있는 만큼 반환")
+    void appliesFilterAndHandlesSmallInput() {
+        // given
+        Ad paused = Ad.builder().id(1L).score(9f).status(AdStatus.PAUSED).createdAt(BASE_TIME).build();
+        Ad active = ad(2L, 1f, 0L, 0L, 0);
+        Ad noScore = Ad.builder().id(3L).status(AdStatus.ACTIVE).build();
+
+        // when
+        List<Ad> selected = AdTopKSelector.selectTopK(List.of(paused, active, noScore), 3,
+                ad -> ad.getStatus() == AdStatus.ACTIVE);
+
+        // then
+        assertThat(selected).extracting(Ad::getId).containsExactly(2L, 3L);
+        assertThat(AdTopKSelector.selectTopK(List.of(), 3)).isEmpty();
+        assertThat(AdTopKSelector.selectTopK(List.of(active), 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 등급이 점수보다 우선하고 음수 등급은 제외")
+    void tierTakesPrecedenceOverScore() {
+        // given: id 짝수는 등급 0, 홀수는 등급 1, 5의 배수는 제외
+        List<Ad> candidates = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            candidates.add(ad(id, (float) id, 0L, 0L, 0));
+        }
+
+        // when
+        List<Ad> selected = AdTopKSelector.selectTopKByTier(candidates, 12,
+                ad -> ad.getId() % 5 == 0 ? -1 : (int) (ad.getId() % 2));
+
+        // then
+        assertThat(selected).extracting(Ad::getId)
+                .containsExactly(18L, 16L, 14L, 12L, 8L, 6L, 4L, 2L, 19L, 17L, 13L, 11L);
+    }
+
+    private Ad ad(Long id, float score, long impressions, long clicks, int minutesAgo) {
+        return Ad.builder()
+                .id(id)
+                .score(score)
+                .status(AdStatus.ACTIVE)
+                .impressionCount(impressions)
+                .clickCount(clicks)
+                .createdAt(BASE_TIME.minusMinutes(minutesAgo))
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.three.recipingadsservicebe.ad.repository;
+
+import com.three.recipingadsservicebe.ad.enums.AdStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 🎯 서빙 쿼리 인덱스 사용 검증 (H2 EXPLAIN)
+ * 스키마는 create-drop으로 만들고 인덱스는 h2 마이그레이션 스크립트로 추가
+ * 쿼리는 손으로 옮겨 적지 않고 리포지토리 메서드 실행 시 Hibernate가 만든 SQL을 그대로 EXPLAIN
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.three.recipingadsservicebe.ad.repository.AdRepositoryIndexTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+@Sql(scripts = "classpath:db/migration/h2/V2__serving_indexes.sql")
+@DisplayName("서빙 쿼리 인덱스 테스트")
+class AdRepositoryIndexTest {
+
+    private static final String[] POSITIONS = {"MAIN_TOP", "MAIN_MIDDLE"};
+    private static final String[] SCENARIOS = {"CONTROL", "TREATMENT", "SPRING_EVENT", "DIET", "FAMILY"};
+    private static final String[] DEMOGRAPHICS = {"FEMALE_TWENTIES", "FEMALE_THIRTIES", "MALE_TWENTIES", "MALE_THIRTIES"};
+    private static final String[] ENGAGEMENTS = {"HIGH_ACTIVE", "REGULAR_USER", "CASUAL_USER", "DORMANT_USER"};
+    private static final String[] COOKING_STYLES = {"HEALTH_CONSCIOUS", "CONVENIENCE_SEEKER", "GOURMET_EXPLORER", "FAMILY_ORIENTED"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdRepository adRepository;
+
+    @BeforeEach
+    void setUp() {
+        OffsetDateTime base = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        jdbcTemplate.update("INSERT INTO advertisers (id, name, is_deleted) VALUES (1, 'advertiser', false)");
+
+        // 운영 데이터처럼 종료/중지된 과거 광고가 대부분이고 송출 중 광고는 일부
+        List<Object[]> ads = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            boolean active = i % 10 == 0;
+            ads.add(new Object[]{
+                    "ad-" + i,
+                    POSITIONS[i % POSITIONS.length],
+                    active ? "ACTIVE" : (i % 3 == 0 ? "PAUSED" : "EXPIRED"),
+                    SCENARIOS[i % SCENARIOS.length],
+                    DEMOGRAPHICS[(i / 2) % DEMOGRAPHICS.length],
+                    ENGAGEMENTS[(i / 3) % ENGAGEMENTS.length],
+                    COOKING_STYLES[(i / 7) % COOKING_STYLES.length],
+                    (float) (i % 100),
+                    base.plusMinutes(i),
+                    active && i % 20 == 0 ? null : base.plusDays(i % 400)
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO ads (title, preferred_position, status, scenario_code,
+                                 target_demographic_segment, target_engagement_level, target_cooking_style,
+                                 score, created_at, end_at, is_deleted, advertiser_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, 1)
+                """, ads);
+
+        List<Object[]> events = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            events.add(new Object[]{
+                    (long) i,
+                    i % 2 == 0 ? "CONTROL" : "TREATMENT",
+                    i % 2 == 0 ? "CONTROL" : "TREATMENT",
+                    i % 5 == 0 ? "CLICK" : "IMPRESSION",
+                    base.plusMinutes(i * 10L)
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO ab_test_events (user_id, scenario_code, ab_test_group, event_type, position, created_at)
+                VALUES (?, ?, ?, ?, 'MAIN_TOP', ?)
+                """, events);
+
+        // 옵티마이저가 실제 선택도를 보도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("✅ 서빙 인덱스 적재 쿼리(findServableAds)는 ads 풀스캔 없이 인덱스 사용")
+    void servableAdsQueryUsesIndex() {
+        // given: 리포지토리 메서드가 실제로 실행한 SQL
+        CapturingStatementInspector.clear();
+        adRepository.findServableAds();
+        String sql = CapturingStatementInspector.last("select");
+
+        // when
+        String plan = explain(sql).toLowerCase();
+
+        // then
+        assertThat(plan).containsAnyOf("idx_ads_status_end_at", "idx_ads_servable_end_at");
+        assertThat(plan).doesNotContain("public.ads.tablescan");
+    }
+
+    @Test
+    @DisplayName("✅ 만료 배치 쿼리(expireEndedAds)는 상태/종료일 인덱스 사용")
+    void expireEndedAdsQueryUsesStatusEndAtIndex() {
+        // given: 리포지토리 메서드가 실제로 실행한 SQL (SET status, modified_at / WHERE status, end_at 순서로 바인딩)
+        OffsetDateTime now = OffsetDateTime.of(2025, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        CapturingStatementInspector.clear();
+        adRepository.expireEndedAds(AdStatus.ACTIVE, AdStatus.EXPIRED, now);
+        String sql = CapturingStatementInspector.last("update");
+
+        // when
+        String plan = explain(sql, AdStatus.EXPIRED.name(), now, AdStatus.ACTIVE.name(), now);
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_ads_status_end_at");
+    }
+
+    @Test
+    @DisplayName("✅ A/B 이벤트 기간 집계는 created_at 선두 인덱스 사용")
+    void abTestEventWindowUsesCreatedAtIndex() {
+        String plan = explain("""
+                SELECT ab_test_group, event_type, COUNT(*) FROM ab_test_events
+                WHERE created_at >= TIMESTAMP WITH TIME ZONE '2025-01-10 00:00:00+00'
+                AND created_at < TIMESTAMP WITH TIME ZONE '2025-01-11 00:00:00+00'
+                GROUP BY ab_test_group, event_type
+                """);
+
+        assertThat(plan).containsIgnoringCase("idx_ab_test_events_created_group_type");
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    /**
+     * Hibernate가 생성한 SQL 기록 (spring.jpa.properties.hibernate.session_factory.statement_inspector)
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String last(String keyword) {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                String sql = STATEMENTS.get(i);
+                if (sql.trim().toLowerCase().startsWith(keyword) && sql.toLowerCase().contains("ads")) {
+                    return sql;
+                }
+            }
+            throw new IllegalStateException("captured no " + keyword + " statement: " + STATEMENTS);
+        }
+    }
+}
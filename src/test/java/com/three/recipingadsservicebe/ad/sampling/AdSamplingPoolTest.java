@@ -0,0 +1,106 @@
+package com.three.recipingadsservicebe.ad.sampling;
+
+import com.three.recipingadsservicebe.ad.entity.Ad;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("무작위 추출 풀 테스트")
+class AdSamplingPoolTest {
+
+    @Test
+    @DisplayName("✅ 큰 풀/작은 풀 모두 중복 없이 filter 통과분만 k건 추출")
+    void samplesDistinctFilteredAds() {
+        Random random = new Random(7);
+        AdSamplingPool largePool = AdSamplingPool.of(ads(100, id -> 1f));
+        AdSamplingPool smallPool = AdSamplingPool.of(ads(5, id -> 1f));
+
+        for (SamplingMode mode : SamplingMode.values()) {
+            for (int i = 0; i < 100; i++) {
+                assertThat(largePool.sample(3, mode, ad -> ad.getId() <= 60, random))
+                        .hasSize(3).doesNotHaveDuplicates().allMatch(ad -> ad.getId() <= 60);
+                assertThat(smallPool.sample(3, mode, ad -> ad.getId() != 1L, random))
+                        .hasSize(3).doesNotHaveDuplicates().allMatch(ad -> ad.getId() != 1L);
+            }
+        }
+        assertThat(smallPool.sample(10, SamplingMode.UNIFORM, ad -> true, random)).hasSize(5);
+        assertThat(AdSamplingPool.EMPTY.sample(3, SamplingMode.UNIFORM, ad -> true, random)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 균등 모드는 모든 광고가 고르게, 점수 가중 모드는 점수에 비례해 선택")
+    void samplingFollowsMode() {
+        // given: 1번 광고만 점수 91, 나머지 99개는 점수 1 → 가중 모드에서 1번 선택 확률 약 48%
+        AdSamplingPool pool = AdSamplingPool.of(ads(100, id -> id == 1L ? 91f : 1f));
+        Random random = new Random(11);
+        int draws = 20_000;
+
+        // when
+        Map<Long, Integer> uniformCounts = countFirstDraws(pool, SamplingMode.UNIFORM, random, draws);
+        Map<Long, Integer> weightedCounts = countFirstDraws(pool, SamplingMode.SCORE_WEIGHTED, random, draws);
+
+        // then
+        assertThat(uniformCounts.getOrDefault(1L, 0)).isBetween(100, 320);
+        assertThat(uniformCounts).hasSize(100);
+        assertThat(weightedCounts.getOrDefault(1L, 0)).isBetween(9_000, 10_200);
+    }
+
+    @Test
+    @DisplayName("✅ 모든 점수가 0이면 가중 모드도 균등 추출")
+    void zeroScoresFallBackToUniform() {
+        AdSamplingPool pool = AdSamplingPool.of(ads(50, id -> 0f));
+
+        List<Ad> sampled = pool.sample(3, SamplingMode.SCORE_WEIGHTED, ad -> true, new Random(3));
+
+        assertThat(sampled).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("✅ 큰 풀에서 가중치 편중 + 선택적 filter로 탐침이 부족해도 k건을 채움")
+    void fillsShortfallFromExactPath() {
+        // given: 1번 광고가 가중치 대부분을 차지하고 filter는 200개 중 4개만 통과 (150, 151번은 점수 0)
+        AdSamplingPool pool = AdSamplingPool.of(ads(200, id -> id == 1L ? 10_000f : id == 150L || id == 151L ? 0f : 1f));
+        List<Long> allowed = List.of(1L, 150L, 151L, 152L);
+        Random random = new Random(5);
+
+        for (SamplingMode mode : SamplingMode.values()) {
+            for (int i = 0; i < 100; i++) {
+                // when
+                List<Ad> sampled = pool.sample(3, mode, ad -> allowed.contains(ad.getId()), random);
+
+                // then
+                assertThat(sampled).hasSize(3).doesNotHaveDuplicates()
+                        .allMatch(ad -> allowed.contains(ad.getId()));
+            }
+        }
+        // 가중 모드: 양수 가중치 광고가 먼저, 가중치 0 광고는 부족분만큼 뒤에
+        List<Ad> weighted = pool.sample(3, SamplingMode.SCORE_WEIGHTED, ad -> allowed.contains(ad.getId()), random);
+        assertThat(weighted.subList(0, 2)).extracting(Ad::getId).containsExactlyInAnyOrder(1L, 152L);
+        assertThat(weighted.get(2).getId()).isIn(150L, 151L);
+    }
+
+    private Map<Long, Integer> countFirstDraws(AdSamplingPool pool, SamplingMode mode, Random random, int draws) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < draws; i++) {
+            Ad first = pool.sample(1, mode, ad -> true, random).get(0);
+            counts.merge(first.getId(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private List<Ad> ads(int count, LongFunction<Float> scoreOf) {
+        List<Ad> ads = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            ads.add(Ad.builder().id(id).score(scoreOf.apply(id)).build());
+        }
+        return ads;
+    }
+}
@@ -1,18 +1,29 @@
 package com.three.recipingadsservicebe.ad.service;
 
+import com.three.recipingadsservicebe.abtest.service.AbTestService;
+import com.three.recipingadsservicebe.ad.counter.AdCounterStore;
 import com.three.recipingadsservicebe.ad.entity.Ad;
+import com.three.recipingadsservicebe.ad.enums.AdPosition;
+import com.three.recipingadsservicebe.ad.index.AdServingIndex;
 import com.three.recipingadsservicebe.ad.repository.AdRepository;
+import com.three.recipingadsservicebe.ad.sampling.AdSamplingEngine;
+import com.three.recipingadsservicebe.targeting.service.UserProfileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("광고 추천 서비스 테스트")
@@ -58,4 +69,30 @@ class AdRecommendationServiceTest {
         // Then: 기본 검증
         assertThat(result).isNotNull();
     }
+
+    @Test
+    @DisplayName("✅ 선정 풀이 포화로 거절하면 해당 포지션은 빈 리스트로 응답")
+    void rejectedPositionsFallBackToEmptyList() {
+        // given: 모든 작업을 거절하는 포화 상태의 선정 풀
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Executor saturatedExecutor = task -> {
+            throw new RejectedExecutionException("saturated");
+        };
+        AdRecommendationService service = new AdRecommendationService(
+                adRepository, mock(AdServingIndex.class), mock(AdSamplingEngine.class),
+                mock(UserProfileService.class), mock(AbTestService.class), mock(AdCounterStore.class),
+                meterRegistry, saturatedExecutor);
+        ReflectionTestUtils.setField(service, "positionTimeoutMs", 150L);
+        service.registerPositionTimers();
+
+        // when: 비로그인 사용자 요청
+        Map<String, List<Ad>> result = service.recommendAdsForUser(null, null);
+
+        // then: 요청 자체는 실패하지 않고 모든 포지션이 빈 리스트, 거절은 rejected 결과로 기록
+        assertThat(result).hasSize(AdPosition.values().length);
+        assertThat(result.values()).allSatisfy(ads -> assertThat(ads).isEmpty());
+        assertThat(meterRegistry.get("ads_position_selection_duration_seconds")
+                .tag("outcome", "rejected").timers())
+                .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(1L));
+    }
 }
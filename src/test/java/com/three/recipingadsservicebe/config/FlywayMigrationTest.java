@@ -0,0 +1,75 @@
+package com.three.recipingadsservicebe.config;
+
+import com.three.recipingadsservicebe.ad.repository.AdRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 🎯 H2 마이그레이션 스크립트 검증
+ * 테스트 프로파일은 create-drop 스키마를 쓰므로, 여기서만 Flyway로 스키마를 만들고 엔티티 조회가 되는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@ActiveProfiles("test")
+@DisplayName("Flyway 마이그레이션 테스트")
+class FlywayMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdRepository adRepository;
+
+    @Test
+    @DisplayName("✅ h2 마이그레이션이 모두 성공적으로 적용됨")
+    void allMigrationsApplied() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).isNotEmpty();
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isFailed()).isFalse());
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+                .contains("1", "2", "2.1", "3", "4");
+    }
+
+    @Test
+    @DisplayName("✅ 서빙 인덱스가 생성되고 제거된 인덱스는 없음")
+    void servingIndexesExist() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE LOWER(TABLE_NAME) = 'ads'",
+                String.class);
+
+        assertThat(indexes).contains("idx_ads_servable_end_at", "idx_ads_status_end_at");
+        assertThat(indexes).doesNotContain("idx_ads_serving_targeting", "idx_ads_serving_scenario");
+    }
+
+    @Test
+    @DisplayName("✅ 마이그레이션 스키마에서 서빙 적재 쿼리가 동작")
+    void servableAdsQueryRunsOnMigratedSchema() {
+        // given
+        jdbcTemplate.update("INSERT INTO advertisers (id, name, is_deleted) VALUES (1, 'advertiser', false)");
+        jdbcTemplate.update("""
+                INSERT INTO ads (title, preferred_position, status, scenario_code, score, is_deleted, advertiser_id)
+                VALUES ('ad', 'MAIN_TOP', 'ACTIVE', 'CONTROL', 1.0, false, 1)
+                """);
+
+        // when & then
+        assertThat(adRepository.findServableAds()).hasSize(1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.three.recipingadsservicebe.feign;
+
+import com.three.recipingadsservicebe.targeting.dto.UserInfoDto;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 user-service 스텁 (호출 횟수 집계 + 선택적 지연)
+ */
+public class StubUserFeignClient implements UserFeignClient {
+
+    private final long latencyMs;
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final AtomicInteger batchCalls = new AtomicInteger();
+
+    public StubUserFeignClient() {
+        this(0);
+    }
+
+    public StubUserFeignClient(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public UserInfoDto getUserInfo(Long userId) {
+        singleCalls.incrementAndGet();
+        sleep();
+        return userInfo(userId);
+    }
+
+    @Override
+    public List<UserInfoDto> getUserInfos(List<Long> userIds) {
+        batchCalls.incrementAndGet();
+        sleep();
+        return userIds.stream().map(this::userInfo).toList();
+    }
+
+    public int getSingleCalls() {
+        return singleCalls.get();
+    }
+
+    public int getBatchCalls() {
+        return batchCalls.get();
+    }
+
+    private UserInfoDto userInfo(Long userId) {
+        return UserInfoDto.builder()
+                .userId(userId)
+                .sex(userId % 2 == 0 ? UserInfoDto.SexType.FEMALE : UserInfoDto.SexType.MALE)
+                .age(UserInfoDto.AgeType.THIRTIES)
+                .role(UserInfoDto.RoleType.USER)
+                .build();
+    }
+
+    private void sleep() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.three.recipingadsservicebe.global.config;
+
+import com.three.recipingadsservicebe.targeting.dto.UserProfileDto;
+import com.three.recipingadsservicebe.targeting.service.UserProfileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("사용자 프로필 캐시 동시 미스 합류 테스트")
+class CacheConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("✅ 같은 userId 동시 미스는 로더 1회 호출로 합쳐지고 합류 수가 집계됨")
+    void concurrentMissesAreCoalesced() throws Exception {
+        // given: 첫 로드가 끝나기 전에 모든 호출이 도착하도록 로더를 붙잡아 둠
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        UserProfileService userProfileService = mock(UserProfileService.class);
+        given(userProfileService.loadUserProfile(1L)).willAnswer(invocation -> {
+            loads.incrementAndGet();
+            loaderEntered.countDown();
+            releaseLoader.await(5, TimeUnit.SECONDS);
+            return UserProfileDto.builder().userId(1L).build();
+        });
+        Cache cache = createCacheManager(userProfileService).getCache(CacheConfig.USER_PROFILES);
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            // when
+            List<Future<Cache.ValueWrapper>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L)));
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(1L)));
+            }
+            // 합류 호출들이 로드 완료를 기다리기 시작할 시간
+            Thread.sleep(200);
+            releaseLoader.countDown();
+            for (Future<Cache.ValueWrapper> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).get()).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ads_user_profile_coalesced_total").count()).isGreaterThan(0.0);
+    }
+
+    @Test
+    @DisplayName("✅ 이미 적재된 프로필 조회는 합류로 집계되지 않음")
+    void cachedHitIsNotCounted() {
+        // given
+        UserProfileService userProfileService = mock(UserProfileService.class);
+        given(userProfileService.loadUserProfile(2L)).willReturn(UserProfileDto.builder().userId(2L).build());
+        Cache cache = createCacheManager(userProfileService).getCache(CacheConfig.USER_PROFILES);
+
+        // when
+        cache.get(2L);
+        cache.get(2L);
+
+        // then
+        then(userProfileService).should(times(1)).loadUserProfile(2L);
+        assertThat(meterRegistry.counter("ads_user_profile_coalesced_total").count()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheManager createCacheManager(UserProfileService userProfileService) {
+        ObjectProvider<UserProfileService> provider = mock(ObjectProvider.class);
+        given(provider.getObject()).willReturn(userProfileService);
+        return new CacheConfig().cacheManager(provider, 1000, 600, 300, 30, meterRegistry);
+    }
+}
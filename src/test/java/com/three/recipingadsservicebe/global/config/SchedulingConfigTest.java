@@ -0,0 +1,53 @@
+package com.three.recipingadsservicebe.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("스케줄러 분리 테스트")
+class SchedulingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskSchedulingAutoConfiguration.class))
+            .withUserConfiguration(SchedulingConfig.class);
+
+    @Test
+    @DisplayName("✅ 공용 taskScheduler가 막혀 있어도 서빙 인덱스 경계 재구성은 제시간에 실행")
+    void boundaryRebuildDoesNotWaitForSharedScheduler() {
+        contextRunner.run(context -> {
+            TaskScheduler shared = context.getBean("taskScheduler", TaskScheduler.class);
+            TaskScheduler boundary = context.getBean(SchedulingConfig.AD_SERVING_INDEX_SCHEDULER, TaskScheduler.class);
+            assertThat(boundary).isNotSameAs(shared);
+
+            // given: 공용 스케줄러(기본 스레드 1개)를 오래 걸리는 작업이 점유
+            CountDownLatch releaseShared = new CountDownLatch(1);
+            shared.schedule(() -> {
+                try {
+                    releaseShared.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, Instant.now());
+
+            // when
+            CountDownLatch boundaryRan = new CountDownLatch(1);
+            boundary.schedule(boundaryRan::countDown, Instant.now().plusMillis(50));
+
+            // then
+            try {
+                assertThat(boundaryRan.await(2, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                releaseShared.countDown();
+            }
+        });
+    }
+}
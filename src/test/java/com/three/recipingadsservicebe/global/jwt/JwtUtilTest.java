@@ -0,0 +1,74 @@
+package com.three.recipingadsservicebe.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JWT 검증 클레임 캐시 테스트")
+class JwtUtilTest {
+
+    private static final byte[] KEY_BYTES = "reciping-ads-jwt-util-test-secret-key-32bytes".getBytes();
+
+    private final Key key = Keys.hmacShaKeyFor(KEY_BYTES);
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(Base64.getEncoder().encodeToString(KEY_BYTES), 100, 600, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 토큰의 반복 검증은 캐시된 클레임을 반환")
+    void reusesVerifiedClaims() {
+        // given
+        String token = token(key, new Date(System.currentTimeMillis() + 60_000));
+
+        // when
+        Claims first = jwtUtil.resolveClaims(token);
+        Claims second = jwtUtil.resolveClaims(token);
+
+        // then
+        assertThat(first.getSubject()).isEqualTo("user@reciping.com");
+        assertThat(first.get("userId", Integer.class)).isEqualTo(7);
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtVerifiedClaims").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("✅ 만료/위조 토큰은 캐시되지 않고 거부")
+    void rejectsExpiredAndForgedTokens() {
+        // given
+        String expired = token(key, new Date(System.currentTimeMillis() - 1_000));
+        String forged = token(Keys.hmacShaKeyFor("another-secret-key-for-forged-token-32bytes".getBytes()),
+                new Date(System.currentTimeMillis() + 60_000));
+
+        // when & then
+        assertThat(jwtUtil.resolveClaims(expired)).isNull();
+        assertThat(jwtUtil.resolveClaims(forged)).isNull();
+        assertThat(jwtUtil.validateToken(forged)).isFalse();
+        assertThatThrownBy(() -> jwtUtil.getUserInfoFromToken(forged)).isInstanceOf(RuntimeException.class);
+    }
+
+    private String token(Key signingKey, Date expiration) {
+        return Jwts.builder()
+                .setSubject("user@reciping.com")
+                .claim("role", "USER")
+                .claim("userId", 7)
+                .setExpiration(expiration)
+                .signWith(signingKey)
+                .compact();
+    }
+}
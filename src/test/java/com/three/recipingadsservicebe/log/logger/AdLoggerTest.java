@@ -0,0 +1,85 @@
+package com.three.recipingadsservicebe.log.logger;
+
+import com.three.recipingadsservicebe.log.dto.AdLogPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("광고 도메인 비동기 로거 테스트")
+class AdLoggerTest {
+
+    @Mock
+    private Logger logger;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdLogger adLogger;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // writer 스레드는 시작하지 않고 drainAndWrite로 직접 출력
+        adLogger = new AdLogger(meterRegistry, 2, 10, 50, "");
+        request = new MockHttpServletRequest("GET", "/api/v1/ads/serve");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("✅ 요청 스레드에서는 큐 적재만 하고 가득 차면 블로킹 없이 드롭")
+    void enqueuesWithoutWritingAndDropsWhenFull() {
+        // when
+        boolean first = adLogger.logAdServing(logger, request, "1", serve());
+        boolean second = adLogger.logAdServing(logger, request, "2", serve());
+        boolean third = adLogger.logAdServing(logger, request, "3", serve());
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        then(logger).should(never()).info(any(String.class), any(Object[].class));
+        assertThat(meterRegistry.get("ads_log_events_dropped_total").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ads_log_events_queue_size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("✅ writer에서 호출 측 로거로 구조화 로그를 출력하고 MDC 정리")
+    void writesStructuredLogOnWriter() {
+        // given
+        MDC.put("traceId", "trace-1");
+        adLogger.logAdServing(logger, request, "1", serve());
+        adLogger.logAdClick(logger, request, null, "10", AdLogPayload.Click.success(10L, "MAIN_TOP"));
+        MDC.remove("traceId");
+
+        // when
+        adLogger.drainAndWrite();
+
+        // then
+        then(logger).should(times(1)).info(startsWith("[AD_SERVE] [CONTROL] GET /api/v1/ads/serve by user:1 (trace:trace-1)"),
+                any(Object[].class));
+        then(logger).should(times(1)).info(startsWith("[AD_CLICK] GET /api/v1/ads/serve by GUEST"), any(Object[].class));
+        assertThat(meterRegistry.get("ads_log_events_written_total").counter().count()).isEqualTo(2.0);
+        assertThat(MDC.get("traceId")).isNull();
+        assertThat(MDC.get("logType")).isNull();
+    }
+
+    private AdLogPayload.Serve serve() {
+        return AdLogPayload.Serve.success(3, List.of("MAIN_TOP"), "CONTROL", "SCENARIO_A");
+    }
+}
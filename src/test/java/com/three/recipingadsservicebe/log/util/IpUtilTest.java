@@ -0,0 +1,79 @@
+package com.three.recipingadsservicebe.log.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("클라이언트 IP 추출 테스트")
+class IpUtilTest {
+
+    private static final IpUtil.TrustedProxies TRUSTED =
+            IpUtil.TrustedProxies.parse("10.0.0.0/8, 172.16.0.0/12, fd00::/8");
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "203.0.113.7           | 203.0.113.7",
+            "' 203.0.113.7 '       | 203.0.113.7",
+            "203.0.113.7:51234     | 203.0.113.7",
+            "::1                   | 127.0.0.1",
+            "0:0:0:0:0:0:0:1       | 127.0.0.1",
+            "::ffff:192.168.0.1    | 192.168.0.1",
+            "::ffff:c0a8:1         | 192.168.0.1",
+            "2001:db8::1           | 2001:db8::1",
+            "[2001:db8::1]:443     | 2001:db8::1",
+            "fe80::1%eth0          | fe80::1"
+    })
+    @DisplayName("✅ IPv4 / IPv6 / IPv4-mapped 리터럴 파싱 및 정규화")
+    void parsesLiterals(String forwardedFor, String expected) {
+        assertThat(IpUtil.getClientIp(forwardedFor, "10.0.0.2")).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"evil.example.com", "localhost", "256.1.1.1", "1.2.3", "1::2::3",
+            "1:2:3:4:5:6:7:8:9", "12345::1", "unknown"})
+    @DisplayName("✅ IP 리터럴이 아닌 헤더 값은 조회 없이 remoteAddr로 대체")
+    void ignoresNonLiteralHeader(String forwardedFor) {
+        assertThat(IpUtil.getClientIp(forwardedFor, "10.0.0.2")).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("✅ 신뢰 프록시 미설정 시 X-Forwarded-For 첫 번째 값 사용")
+    void usesFirstHopWithoutTrustedProxies() {
+        assertThat(IpUtil.getClientIp("203.0.113.7, 10.0.0.1", "10.0.0.2")).isEqualTo("203.0.113.7");
+        assertThat(IpUtil.getClientIp(null, "::ffff:10.0.0.2")).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("✅ 신뢰 프록시를 오른쪽부터 건너뛰고 첫 비신뢰 주소를 클라이언트로 판단")
+    void walksTrustedProxiesFromRight() {
+        // 클라이언트가 위조한 첫 번째 값(198.51.100.1)은 무시
+        assertThat(IpUtil.getClientIp("198.51.100.1, 203.0.113.7, 10.0.0.1", "10.0.0.2", TRUSTED))
+                .isEqualTo("203.0.113.7");
+        assertThat(IpUtil.getClientIp("2001:db8::5", "fd12::1", TRUSTED)).isEqualTo("2001:db8::5");
+
+        // 전부 신뢰 프록시면 가장 왼쪽 값
+        assertThat(IpUtil.getClientIp("10.1.1.1, 172.16.0.5", "::ffff:10.0.0.2", TRUSTED)).isEqualTo("10.1.1.1");
+
+        // 리터럴이 아닌 값을 만나면 마지막으로 확인된 주소에서 멈춤
+        assertThat(IpUtil.getClientIp("1.1.1.1, junk, 10.1.1.1", "10.0.0.2", TRUSTED)).isEqualTo("10.1.1.1");
+    }
+
+    @Test
+    @DisplayName("✅ remoteAddr가 신뢰 프록시가 아니면 헤더를 무시")
+    void ignoresHeaderFromUntrustedPeer() {
+        assertThat(IpUtil.getClientIp("1.1.1.1", "203.0.113.9", TRUSTED)).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    @DisplayName("✅ 잘못된 신뢰 프록시 설정은 기동 시 거부")
+    void rejectsInvalidTrustedProxyConfig() {
+        assertThatThrownBy(() -> IpUtil.TrustedProxies.parse("proxy.internal"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IpUtil.TrustedProxies.parse("10.0.0.0/33"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
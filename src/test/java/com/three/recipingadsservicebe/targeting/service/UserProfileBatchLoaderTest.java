@@ -0,0 +1,69 @@
+package com.three.recipingadsservicebe.targeting.service;
+
+import com.three.recipingadsservicebe.feign.StubUserFeignClient;
+import com.three.recipingadsservicebe.targeting.dto.UserInfoDto;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("사용자 정보 마이크로 배칭 로더 테스트")
+class UserProfileBatchLoaderTest {
+
+    private StubUserFeignClient userFeignClient;
+    private UserProfileBatchLoader batchLoader;
+
+    @BeforeEach
+    void setUp() {
+        userFeignClient = new StubUserFeignClient(10);
+        batchLoader = new UserProfileBatchLoader(userFeignClient, CircuitBreaker.ofDefaults("userService"),
+                new SimpleMeterRegistry(), 50, 100, 1000, 2);
+        batchLoader.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchLoader.stop();
+    }
+
+    @Test
+    @DisplayName("✅ 윈도우 내 동시 미스는 다건 조회 1회로 처리")
+    void concurrentMissesAreBatched() throws Exception {
+        // given
+        List<CompletableFuture<UserInfoDto>> futures = new ArrayList<>();
+
+        // when
+        for (long userId = 1; userId <= 20; userId++) {
+            futures.add(batchLoader.load(userId));
+        }
+        futures.add(batchLoader.load(1L));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(2, TimeUnit.SECONDS);
+
+        // then
+        assertThat(userFeignClient.getBatchCalls()).isEqualTo(1);
+        assertThat(userFeignClient.getSingleCalls()).isZero();
+        assertThat(futures.get(4).get().getUserId()).isEqualTo(5L);
+        assertThat(futures.get(20).get().getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("✅ 단건만 모이면 기존 단건 API 사용")
+    void singleMissUsesSingleLookup() throws Exception {
+        // when
+        UserInfoDto userInfo = batchLoader.load(7L).get(2, TimeUnit.SECONDS);
+
+        // then
+        assertThat(userInfo.getUserId()).isEqualTo(7L);
+        assertThat(userFeignClient.getSingleCalls()).isEqualTo(1);
+        assertThat(userFeignClient.getBatchCalls()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.three.recipingadsservicebe.targeting.service;
+
+import com.three.recipingadsservicebe.feign.StubUserFeignClient;
+import com.three.recipingadsservicebe.targeting.dto.UserProfileDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("사용자 프로필 조회 장애 격리 테스트")
+class UserProfileServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("userService");
+    private UserProfileBatchLoader batchLoader;
+
+    @AfterEach
+    void tearDown() {
+        batchLoader.stop();
+    }
+
+    @Test
+    @DisplayName("✅ User 서비스가 느려도 timeLimiter 시간 안에 기본 프로필 반환")
+    void slowUserServiceIsBounded() {
+        // given: 응답에 2초 걸리는 User 서비스
+        StubUserFeignClient slowClient = new StubUserFeignClient(2000);
+        UserProfileService userProfileService = createService(slowClient);
+
+        // when
+        long startedAt = System.nanoTime();
+        UserProfileDto profile = userProfileService.loadUserProfile(1L);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // then
+        assertThat(profile.isFallback()).isTrue();
+        assertThat(elapsedMs).isLessThan(1000);
+        assertThat(meterRegistry.counter("ads_user_profile_fallback_total", "reason", "timeout").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("✅ 서킷 OPEN 시 User 서비스 호출 없이 즉시 기본 프로필 반환")
+    void openCircuitReturnsDefaultImmediately() {
+        // given
+        StubUserFeignClient client = new StubUserFeignClient();
+        UserProfileService userProfileService = createService(client);
+        circuitBreaker.transitionToOpenState();
+
+        // when
+        UserProfileDto profile = userProfileService.loadUserProfile(1L);
+
+        // then
+        assertThat(profile.isFallback()).isTrue();
+        assertThat(client.getSingleCalls() + client.getBatchCalls()).isZero();
+        assertThat(meterRegistry.counter("ads_user_profile_fallback_total", "reason", "circuit_open").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("✅ 정상 응답 시 변환된 프로필 반환")
+    void returnsConvertedProfile() {
+        // given
+        UserProfileService userProfileService = createService(new StubUserFeignClient());
+
+        // when
+        UserProfileDto profile = userProfileService.loadUserProfile(2L);
+
+        // then
+        assertThat(profile.isFallback()).isFalse();
+        assertThat(profile.getUserId()).isEqualTo(2L);
+    }
+
+    private UserProfileService createService(StubUserFeignClient client) {
+        batchLoader = new UserProfileBatchLoader(client, circuitBreaker, meterRegistry, 1, 100, 1000, 2);
+        batchLoader.start();
+        TimeLimiter timeLimiter = TimeLimiter.of("userService", TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(200))
+                .build());
+        return new UserProfileService(batchLoader, circuitBreaker, Bulkhead.ofDefaults("userService"),
+                timeLimiter, meterRegistry);
+    }
+}